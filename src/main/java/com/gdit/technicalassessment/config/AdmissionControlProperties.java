@@ -0,0 +1,18 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "validation.admission")
+public record AdmissionControlProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("64") int initialLimit,
+        @DefaultValue("4") int minLimit,
+        @DefaultValue("512") int maxLimit,
+        @DefaultValue("250ms") Duration latencyTarget,
+        @DefaultValue("0.9") double backoffRatio,
+        @DefaultValue("1s") Duration retryAfter
+) {
+}
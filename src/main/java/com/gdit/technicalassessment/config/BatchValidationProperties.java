@@ -0,0 +1,22 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "validation.batch")
+public record BatchValidationProperties(
+        @DefaultValue("0") int parallelism,
+        @DefaultValue("64") int splitThreshold,
+        @DefaultValue("4096") int streamChunkSize,
+        @DefaultValue("10000") int maxSize,
+        @DefaultValue("256") int streamMaxInFlight
+) {
+
+    public static BatchValidationProperties defaults() {
+        return new BatchValidationProperties(0, 64, 4096, 10000, 256);
+    }
+
+    public int resolvedParallelism() {
+        return parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,42 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.validation.dsl.DeclarativeRule;
+import com.gdit.technicalassessment.validation.dsl.DeclarativeRuleLoader;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanFactoryPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+
+/**
+ * Compiles the rules in {@code validation.rules.definitions-file} at startup and registers each one as a
+ * {@code ValidationRule} bean, so they are picked up exactly like the hand-written rules.
+ */
+@Slf4j
+public class DeclarativeRuleRegistrar implements BeanFactoryPostProcessor {
+
+    private static final String BEAN_NAME_PREFIX = "declarativeRule.";
+
+    private final Path definitionsFile;
+
+    public DeclarativeRuleRegistrar(Path definitionsFile) {
+        this.definitionsFile = definitionsFile;
+    }
+
+    @Override
+    public void postProcessBeanFactory(ConfigurableListableBeanFactory beanFactory) {
+        if (definitionsFile == null) {
+            return;
+        }
+
+        try {
+            for (DeclarativeRule rule : DeclarativeRuleLoader.load(definitionsFile)) {
+                beanFactory.registerSingleton(BEAN_NAME_PREFIX + rule.getRuleName(), rule);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read rule definitions from " + definitionsFile, e);
+        }
+    }
+}
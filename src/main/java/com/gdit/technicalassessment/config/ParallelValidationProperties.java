@@ -0,0 +1,21 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "validation.parallel")
+public record ParallelValidationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("fork-join") ExecutorType executor,
+        @DefaultValue("0") int threads
+) {
+
+    public enum ExecutorType {
+        FORK_JOIN,
+        FIXED
+    }
+
+    public int resolvedThreads() {
+        return threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+    }
+}
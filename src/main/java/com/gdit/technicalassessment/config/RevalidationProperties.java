@@ -0,0 +1,14 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "validation.revalidation")
+public record RevalidationProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maximumSessions,
+        @DefaultValue("30m") Duration ttl
+) {
+}
@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "validation.rules")
+public record RuleConfigurationProperties(
+        String configFile,
+        @DefaultValue("true") boolean watch,
+        String definitionsFile
+) {
+}
@@ -0,0 +1,117 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Loads rule activation and parameters from an external properties file and re-applies them whenever the
+ * file changes. Changes are applied once the file has been quiet for {@value #QUIET_PERIOD_MILLIS} ms, so a file
+ * that is still being written is not read half way. A file that cannot be read or parsed, or that holds no
+ * entries, is logged and the current rule set is kept.
+ */
+@Slf4j
+public class RuleConfigurationWatcher implements AutoCloseable {
+
+    static final long QUIET_PERIOD_MILLIS = 250;
+
+    private final Path configFile;
+    private final boolean watch;
+    private final Consumer<RuleConfiguration> listener;
+    private WatchService watchService;
+    private Thread watcherThread;
+
+    public RuleConfigurationWatcher(Path configFile, boolean watch, Consumer<RuleConfiguration> listener) {
+        this.configFile = configFile.toAbsolutePath();
+        this.watch = watch;
+        this.listener = listener;
+    }
+
+    public void start() throws IOException {
+        reload();
+        if (!watch) {
+            return;
+        }
+
+        Path directory = configFile.getParent();
+        watchService = directory.getFileSystem().newWatchService();
+        directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+
+        watcherThread = RuleExecutionConfig.namedDaemonThreads("rule-config-watcher-").newThread(this::watch);
+        watcherThread.start();
+        log.info("Watching {} for rule configuration changes", configFile);
+    }
+
+    public boolean reload() {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(configFile)) {
+            properties.load(reader);
+            if (properties.isEmpty()) {
+                log.warn("Rule configuration {} has no entries, possibly a partial write; keeping the current rule set",
+                        configFile);
+                return false;
+            }
+            listener.accept(RuleConfiguration.from(properties));
+            return true;
+        } catch (IOException | IllegalArgumentException e) {
+            log.warn("Could not apply rule configuration from {}; keeping the current rule set", configFile, e);
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (watcherThread != null) {
+            watcherThread.interrupt();
+        }
+        if (watchService != null) {
+            watchService.close();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (changed(watchService.take())) {
+                    awaitQuietPeriod();
+                    reload();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ClosedWatchServiceException e) {
+            // closed on shutdown
+        }
+    }
+
+    private boolean changed(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (configFile.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void awaitQuietPeriod() throws InterruptedException {
+        WatchKey key;
+        while ((key = watchService.poll(QUIET_PERIOD_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+            key.pollEvents();
+            key.reset();
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.controller.AdmissionControlFilter;
+import com.gdit.technicalassessment.service.AdaptiveConcurrencyLimiter;
+import com.gdit.technicalassessment.service.ApplicationValidationService;
+import com.gdit.technicalassessment.service.RevalidationStore;
+import com.gdit.technicalassessment.service.ShadowEvaluator;
+import com.gdit.technicalassessment.service.ValidationJobService;
+import com.gdit.technicalassessment.service.ValidationResultCache;
+import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.engine.ParallelRuleEvaluator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Slf4j
+@Configuration
+@EnableConfigurationProperties({ParallelValidationProperties.class, BatchValidationProperties.class,
+        ValidationCacheProperties.class, RuleConfigurationProperties.class, RevalidationProperties.class,
+        ShadowValidationProperties.class, RuleSetProperties.class, ValidationClockProperties.class,
+        AdmissionControlProperties.class, ValidationJobProperties.class, ValidationLoggingProperties.class})
+public class RuleExecutionConfig {
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "validation.parallel", name = "enabled", havingValue = "true")
+    public ParallelRuleEvaluator parallelRuleEvaluator(ParallelValidationProperties properties) {
+        int threads = properties.resolvedThreads();
+        log.info("Parallel rule evaluation enabled using {} executor with {} threads", properties.executor(), threads);
+
+        ExecutorService executor = switch (properties.executor()) {
+            case FORK_JOIN -> new ForkJoinPool(threads);
+            case FIXED -> Executors.newFixedThreadPool(threads, namedDaemonThreads("rule-eval-"));
+        };
+        return new ParallelRuleEvaluator(executor);
+    }
+
+    @Bean
+    public static DeclarativeRuleRegistrar declarativeRuleRegistrar(Environment environment) {
+        RuleConfigurationProperties properties = Binder.get(environment)
+                .bindOrCreate("validation.rules", RuleConfigurationProperties.class);
+        String definitionsFile = properties.definitionsFile();
+        return new DeclarativeRuleRegistrar(definitionsFile == null || definitionsFile.isBlank()
+                ? null
+                : Path.of(definitionsFile));
+    }
+
+    @Bean
+    public Clock validationClock(ValidationClockProperties properties) {
+        log.info("Validation dates are evaluated in time zone {}", properties.zone());
+        return Clock.system(properties.zone());
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public ForkJoinPool batchValidationPool(BatchValidationProperties properties) {
+        return new ForkJoinPool(properties.resolvedParallelism());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "validation.cache", name = "enabled", havingValue = "true")
+    public ValidationResultCache validationResultCache(ValidationCacheProperties properties, Clock validationClock) {
+        log.info("Validation result cache enabled with maximum size {} and TTL {}",
+                properties.maximumSize(), properties.ttl());
+        return new ValidationResultCache(properties.maximumSize(), properties.ttl(), properties.segments(),
+                validationClock);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "validation.revalidation", name = "enabled", havingValue = "true")
+    public RevalidationStore revalidationStore(RevalidationProperties properties, Clock validationClock) {
+        log.info("Incremental revalidation enabled for up to {} sessions with TTL {}",
+                properties.maximumSessions(), properties.ttl());
+        return new RevalidationStore(properties.maximumSessions(), properties.ttl(), validationClock);
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "validation.rules", name = "config-file")
+    public RuleConfigurationWatcher ruleConfigurationWatcher(RuleConfigurationProperties properties,
+                                                             ApplicationValidationService validationService) {
+        return new RuleConfigurationWatcher(Path.of(properties.configFile()), properties.watch(),
+                validationService::applyRuleConfiguration);
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "validation.shadow", name = "enabled", havingValue = "true")
+    public ShadowEvaluator shadowEvaluator(ShadowValidationProperties properties, RuleSetProperties ruleSetProperties,
+                                           List<ValidationRule> rules) {
+        int threads = Math.max(1, properties.threads());
+        log.info("Shadow rule evaluation enabled for {} of applications on {} threads", properties.sampleRate(),
+                threads);
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+                namedDaemonThreads("shadow-eval-"), new ThreadPoolExecutor.AbortPolicy());
+        return new ShadowEvaluator(rules, ruleSetProperties.defaultVersion(), executor, properties.sampleRate(),
+                properties.maxDiffs());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "close")
+    @ConditionalOnProperty(prefix = "validation.shadow", name = "enabled", havingValue = "true")
+    public RuleConfigurationWatcher shadowRuleConfigurationWatcher(ShadowValidationProperties properties,
+                                                                   ShadowEvaluator shadowEvaluator) {
+        if (properties.configFile() == null || properties.configFile().isBlank()) {
+            throw new IllegalStateException(
+                    "validation.shadow.config-file must be set when shadow evaluation is enabled");
+        }
+        return new RuleConfigurationWatcher(Path.of(properties.configFile()), true,
+                shadowEvaluator::applyCandidateConfiguration);
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "validation.admission", name = "enabled", havingValue = "true")
+    public AdaptiveConcurrencyLimiter admissionLimiter(AdmissionControlProperties properties) {
+        log.info("Admission control enabled with concurrency limit {} (bounds {}-{}) and latency target {}",
+                properties.initialLimit(), properties.minLimit(), properties.maxLimit(), properties.latencyTarget());
+        return new AdaptiveConcurrencyLimiter(properties.initialLimit(), properties.minLimit(),
+                properties.maxLimit(), properties.latencyTarget(), properties.backoffRatio());
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "validation.admission", name = "enabled", havingValue = "true")
+    public AdmissionControlFilter admissionControlFilter(AdaptiveConcurrencyLimiter admissionLimiter,
+                                                         AdmissionControlProperties properties) {
+        return new AdmissionControlFilter(admissionLimiter, properties.retryAfter());
+    }
+
+    @Bean(initMethod = "start", destroyMethod = "shutdown")
+    @ConditionalOnProperty(prefix = "validation.jobs", name = "enabled", havingValue = "true")
+    public ValidationJobService validationJobService(ValidationJobProperties properties,
+                                                     ApplicationValidationService validationService,
+                                                     ObjectMapper objectMapper, Clock validationClock) {
+        int threads = Math.max(1, properties.threads());
+        log.info("Validation jobs enabled in {} with {} threads and {} queued jobs", properties.directory(), threads,
+                properties.queueCapacity());
+
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(1, properties.queueCapacity())),
+                namedDaemonThreads("validation-job-"), new ThreadPoolExecutor.AbortPolicy());
+        String inputDirectory = properties.inputDirectory();
+        return new ValidationJobService(validationService, objectMapper, Path.of(properties.directory()),
+                inputDirectory == null || inputDirectory.isBlank() ? null : Path.of(inputDirectory),
+                properties.retention(), executor, validationClock);
+    }
+
+    static ThreadFactory namedDaemonThreads(String prefix) {
+        AtomicInteger counter = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+}
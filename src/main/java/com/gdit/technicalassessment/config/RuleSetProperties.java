@@ -0,0 +1,28 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+@ConfigurationProperties(prefix = "validation.rule-sets")
+public record RuleSetProperties(
+        @DefaultValue("2026-27") String defaultVersion,
+        @DefaultValue("2026-27") List<String> versions
+) {
+
+    public static RuleSetProperties defaults() {
+        return new RuleSetProperties("2026-27", List.of("2026-27"));
+    }
+
+    public Set<String> resolvedVersions() {
+        Set<String> resolved = new LinkedHashSet<>();
+        resolved.add(defaultVersion);
+        if (versions != null) {
+            resolved.addAll(versions);
+        }
+        return resolved;
+    }
+}
@@ -0,0 +1,15 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "validation.shadow")
+public record ShadowValidationProperties(
+        @DefaultValue("false") boolean enabled,
+        String configFile,
+        @DefaultValue("0.01") double sampleRate,
+        @DefaultValue("1") int threads,
+        @DefaultValue("256") int queueCapacity,
+        @DefaultValue("100") int maxDiffs
+) {
+}
@@ -0,0 +1,14 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.validation.ApplicationField;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToApplicationFieldConverter implements Converter<String, ApplicationField> {
+
+    @Override
+    public ApplicationField convert(String source) {
+        return ApplicationField.fromString(source);
+    }
+}
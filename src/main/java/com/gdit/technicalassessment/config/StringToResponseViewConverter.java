@@ -0,0 +1,14 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.model.ResponseView;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToResponseViewConverter implements Converter<String, ResponseView> {
+
+    @Override
+    public ResponseView convert(String source) {
+        return ResponseView.fromString(source);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.model.ValidationMode;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+
+@Component
+public class StringToValidationModeConverter implements Converter<String, ValidationMode> {
+
+    @Override
+    public ValidationMode convert(String source) {
+        return ValidationMode.fromString(source);
+    }
+}
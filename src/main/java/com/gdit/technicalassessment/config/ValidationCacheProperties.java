@@ -0,0 +1,15 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "validation.cache")
+public record ValidationCacheProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("10000") int maximumSize,
+        @DefaultValue("1h") Duration ttl,
+        @DefaultValue("16") int segments
+) {
+}
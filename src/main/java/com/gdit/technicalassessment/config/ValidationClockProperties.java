@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.ZoneId;
+
+@ConfigurationProperties(prefix = "validation.clock")
+public record ValidationClockProperties(
+        @DefaultValue("UTC") ZoneId zone
+) {
+}
@@ -0,0 +1,17 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "validation.jobs")
+public record ValidationJobProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("validation-jobs") String directory,
+        String inputDirectory,
+        @DefaultValue("2") int threads,
+        @DefaultValue("16") int queueCapacity,
+        @DefaultValue("7d") Duration retention
+) {
+}
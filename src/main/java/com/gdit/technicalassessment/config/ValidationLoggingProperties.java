@@ -0,0 +1,10 @@
+package com.gdit.technicalassessment.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "validation.logging")
+public record ValidationLoggingProperties(
+        @DefaultValue("0.01") double successSampleRate
+) {
+}
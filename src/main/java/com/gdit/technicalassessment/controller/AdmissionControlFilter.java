@@ -0,0 +1,93 @@
+package com.gdit.technicalassessment.controller;
+
+import com.gdit.technicalassessment.service.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * Sheds validation requests beyond the current {@link AdaptiveConcurrencyLimiter} limit with
+ * {@code 429 Too Many Requests} before they are parsed, so overload costs a rejected request instead of
+ * a growing queue of slow ones. Read-only endpoints are never limited. Batch and stream requests hold a
+ * permit but do not feed their latency into the limit, since it grows with the size of the upload.
+ * Paths are matched within the application, so a servlet context path does not change which requests are
+ * limited.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    private static final String APPLICATIONS_PATH = "/api/v1/applications";
+    private static final String VALIDATE_SEGMENT = "/validate";
+    private static final String VALIDATION_PATH = APPLICATIONS_PATH + VALIDATE_SEGMENT;
+    private static final String RULE_SET_PATH = APPLICATIONS_PATH + "/rule-sets/";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final String retryAfterSeconds;
+
+    public AdmissionControlFilter(AdaptiveConcurrencyLimiter limiter, Duration retryAfter) {
+        this.limiter = limiter;
+        this.retryAfterSeconds = Long.toString(Math.max(1, (retryAfter.toMillis() + 999) / 1000));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return "GET".equals(request.getMethod()) || validationSubpath(applicationPath(request)) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        if (!limiter.tryAcquire()) {
+            log.debug("Rejected {} {}: concurrency limit {} reached", request.getMethod(), request.getRequestURI(),
+                    limiter.limit());
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, retryAfterSeconds);
+            return;
+        }
+        boolean sampled = !isBulk(validationSubpath(applicationPath(request)));
+        long start = System.nanoTime();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            if (sampled) {
+                limiter.release(System.nanoTime() - start);
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    private static String applicationPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return pathInfo == null ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    /**
+     * The part of a validation URI after its {@code /validate} segment, for both {@code /validate/**} and
+     * {@code /rule-sets/{version}/validate/**}, or {@code null} when the URI is not a validation endpoint.
+     */
+    private static String validationSubpath(String uri) {
+        if (uri.startsWith(VALIDATION_PATH)) {
+            return uri.substring(VALIDATION_PATH.length());
+        }
+        if (uri.startsWith(RULE_SET_PATH)) {
+            int versionEnd = uri.indexOf('/', RULE_SET_PATH.length());
+            if (versionEnd > RULE_SET_PATH.length() && uri.startsWith(VALIDATE_SEGMENT, versionEnd)) {
+                return uri.substring(versionEnd + VALIDATE_SEGMENT.length());
+            }
+        }
+        return null;
+    }
+
+    private static boolean isBulk(String subpath) {
+        return subpath.startsWith("/batch") || subpath.startsWith("/stream");
+    }
+}
@@ -1,28 +1,160 @@
 package com.gdit.technicalassessment.controller;
 
+import com.gdit.technicalassessment.config.BinaryContentConfig;
+import com.gdit.technicalassessment.logging.ValidationOutcomeLogger;
+import com.gdit.technicalassessment.model.AdmissionStats;
 import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.BatchApplication;
+import com.gdit.technicalassessment.model.BatchValidationResponse;
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.ResponseView;
+import com.gdit.technicalassessment.model.RevalidationResult;
+import com.gdit.technicalassessment.model.ShadowStats;
+import com.gdit.technicalassessment.model.ValidationCacheStats;
 import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationMode;
+import com.gdit.technicalassessment.service.AdaptiveConcurrencyLimiter;
 import com.gdit.technicalassessment.service.ApplicationValidationService;
+import com.gdit.technicalassessment.service.StreamingValidationService;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/v1/applications")
 @RequiredArgsConstructor
 public class ApplicationValidationController {
 
-    private final ApplicationValidationService validationService;
+    static final String VALIDATION_TOKEN_HEADER = "Validation-Token";
+    static final String RULE_SET_VERSION_HEADER = "Rule-Set-Version";
 
+    private final ApplicationValidationService validationService;
+    private final StreamingValidationService streamingValidationService;
+    private final ValidationOutcomeLogger outcomeLogger;
+    private final Optional<AdaptiveConcurrencyLimiter> admissionLimiter;
 
     @PostMapping("/validate")
-    public ResponseEntity<ValidationDetails> validateApplication(@RequestBody Application application) {
-        log.info("Received validation request for application: {}", application);
+    public ResponseEntity<?> validateApplication(
+            @RequestBody Application application,
+            @RequestParam(name = "mode", defaultValue = "collectAll") ValidationMode mode,
+            @RequestParam(name = "view", defaultValue = "full") ResponseView view,
+            @RequestHeader(name = RULE_SET_VERSION_HEADER, required = false) String ruleSetVersion) {
+        long startNanos = System.nanoTime();
+
+        if (view == ResponseView.COMPACT) {
+            CompactValidationDetails compactDetails =
+                    validationService.validateCompact(application, mode, ruleSetVersion);
+            outcomeLogger.logOutcome(application, mode, view, ruleSetVersion, compactDetails,
+                    System.nanoTime() - startNanos);
+            return ResponseEntity.ok(compactDetails);
+        }
 
-        ValidationDetails validationDetails = validationService.validateApplication(application);
+        if (view == ResponseView.FULL && mode == ValidationMode.COLLECT_ALL
+                && validationService.isRevalidationEnabled()) {
+            RevalidationResult result = validationService.validateForRevalidation(application, ruleSetVersion);
+            outcomeLogger.logOutcome(application, mode, view, ruleSetVersion, result.details(),
+                    System.nanoTime() - startNanos);
+            return withToken(result);
+        }
+
+        ValidationDetails validationDetails =
+                validationService.validateApplication(application, mode, view, ruleSetVersion);
+        outcomeLogger.logOutcome(application, mode, view, ruleSetVersion, validationDetails,
+                System.nanoTime() - startNanos);
         return ResponseEntity.ok(validationDetails);
     }
+
+    @PostMapping("/rule-sets/{ruleSetVersion}/validate")
+    public ResponseEntity<?> validateApplicationForRuleSet(
+            @PathVariable String ruleSetVersion,
+            @RequestBody Application application,
+            @RequestParam(name = "mode", defaultValue = "collectAll") ValidationMode mode,
+            @RequestParam(name = "view", defaultValue = "full") ResponseView view) {
+        return validateApplication(application, mode, view, ruleSetVersion);
+    }
+
+    @GetMapping("/rule-sets/{ruleSetVersion}/rule-ids")
+    public ResponseEntity<Map<String, Integer>> getRuleIds(@PathVariable String ruleSetVersion) {
+        return ResponseEntity.ok(validationService.ruleIds(ruleSetVersion));
+    }
+
+    @PostMapping("/validate/batch")
+    public ResponseEntity<BatchValidationResponse> validateBatch(
+            @RequestBody List<BatchApplication> applications,
+            @RequestHeader(name = RULE_SET_VERSION_HEADER, required = false) String ruleSetVersion) {
+        log.info("Received batch validation request for {} applications", applications.size());
+
+        return ResponseEntity.ok(validationService.validateBatch(applications, ruleSetVersion));
+    }
+
+    @PostMapping(value = "/validate/stream",
+            consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    BinaryContentConfig.APPLICATION_SMILE_VALUE},
+            produces = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_CBOR_VALUE,
+                    BinaryContentConfig.APPLICATION_SMILE_VALUE})
+    public void validateStream(
+            InputStream applications,
+            HttpServletResponse response,
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(name = RULE_SET_VERSION_HEADER, required = false) String ruleSetVersion)
+            throws IOException {
+        String resolvedVersion = validationService.resolveRuleSetVersion(ruleSetVersion);
+        MediaType requestType = MediaType.parseMediaType(contentType);
+        MediaType responseType = streamingValidationService.responseType(requestType,
+                accept != null ? MediaType.parseMediaTypes(accept) : List.of());
+        log.info("Received streaming validation request (rule set: {}, {} -> {})", resolvedVersion, requestType,
+                responseType);
+
+        response.setContentType(responseType.toString());
+        streamingValidationService.validate(applications, requestType, response.getOutputStream(), responseType,
+                resolvedVersion);
+    }
+
+    @PatchMapping("/validate/{token}")
+    public ResponseEntity<ValidationDetails> revalidateApplication(
+            @PathVariable String token,
+            @RequestBody Application changes,
+            @RequestParam(name = "clear", required = false) Set<ApplicationField> clearedFields) {
+        log.debug("Received revalidation request");
+
+        return validationService.revalidate(token, changes, clearedFields != null ? clearedFields : Set.of())
+                .map(this::withToken)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @GetMapping("/validate/cache/stats")
+    public ResponseEntity<ValidationCacheStats> getCacheStats() {
+        return ResponseEntity.of(validationService.cacheStats());
+    }
+
+    @GetMapping("/validate/shadow/stats")
+    public ResponseEntity<ShadowStats> getShadowStats() {
+        return ResponseEntity.of(validationService.shadowStats());
+    }
+
+    @GetMapping("/validate/admission/stats")
+    public ResponseEntity<AdmissionStats> getAdmissionStats() {
+        return ResponseEntity.of(admissionLimiter.map(AdaptiveConcurrencyLimiter::stats));
+    }
+
+    private ResponseEntity<ValidationDetails> withToken(RevalidationResult result) {
+        return ResponseEntity.ok()
+                .header(VALIDATION_TOKEN_HEADER, result.token())
+                .body(result.details());
+    }
 }
 
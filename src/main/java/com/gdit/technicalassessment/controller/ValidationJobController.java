@@ -0,0 +1,71 @@
+package com.gdit.technicalassessment.controller;
+
+import com.gdit.technicalassessment.model.ValidationJobStatus;
+import com.gdit.technicalassessment.service.ValidationJobService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+@Slf4j
+@RestController
+@RequestMapping(ValidationJobController.JOBS_PATH)
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "validation.jobs", name = "enabled", havingValue = "true")
+public class ValidationJobController {
+
+    static final String JOBS_PATH = "/api/v1/applications/jobs";
+
+    private final ValidationJobService jobService;
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ValidationJobStatus> submitUpload(
+            InputStream applications,
+            @RequestHeader(name = ApplicationValidationController.RULE_SET_VERSION_HEADER, required = false)
+            String ruleSetVersion) throws IOException {
+        log.info("Received validation job upload");
+        return accepted(jobService.submit(applications, ruleSetVersion));
+    }
+
+    @PostMapping(params = "file")
+    public ResponseEntity<ValidationJobStatus> submitFile(
+            @RequestParam("file") String file,
+            @RequestHeader(name = ApplicationValidationController.RULE_SET_VERSION_HEADER, required = false)
+            String ruleSetVersion) {
+        log.info("Received validation job for input file {}", file);
+        return accepted(jobService.submitFile(file, ruleSetVersion));
+    }
+
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ValidationJobStatus> getStatus(@PathVariable String jobId) {
+        return ResponseEntity.of(jobService.status(jobId));
+    }
+
+    @GetMapping("/{jobId}/results")
+    public ResponseEntity<Resource> getResults(@PathVariable String jobId) {
+        return jobService.results(jobId)
+                .map(path -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .<Resource>body(new FileSystemResource(path)))
+                .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    @DeleteMapping("/{jobId}")
+    public ResponseEntity<ValidationJobStatus> cancel(@PathVariable String jobId) {
+        return ResponseEntity.of(jobService.cancel(jobId));
+    }
+
+    private static ResponseEntity<ValidationJobStatus> accepted(ValidationJobStatus status) {
+        return ResponseEntity.accepted()
+                .header(HttpHeaders.LOCATION, JOBS_PATH + "/" + status.id())
+                .body(status);
+    }
+}
@@ -0,0 +1,92 @@
+package com.gdit.technicalassessment.logging;
+
+import java.nio.CharBuffer;
+import java.time.LocalDate;
+
+/**
+ * Appends personal fields to a {@link StringBuilder} in masked form, character by character, so the
+ * unmasked value is never copied into a new string. SSNs keep only their last four digits, names their
+ * initial and dates of birth their year. Free text such as an exception message has every run of nine or more
+ * digits masked as an SSN.
+ */
+public final class PiiMasking {
+
+    private static final String MASKED_SSN_PREFIX = "***-**-";
+    private static final String MASKED = "****";
+
+    private PiiMasking() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static StringBuilder appendSsn(StringBuilder out, CharSequence ssn) {
+        if (ssn == null) {
+            return out.append((String) null);
+        }
+        int found = 0;
+        int start = ssn.length();
+        while (start > 0 && found < 4) {
+            char c = ssn.charAt(--start);
+            if (c >= '0' && c <= '9') {
+                found++;
+            }
+        }
+        if (found < 4) {
+            return out.append(MASKED);
+        }
+        out.append(MASKED_SSN_PREFIX);
+        for (int i = start, length = ssn.length(); i < length; i++) {
+            char c = ssn.charAt(i);
+            if (c >= '0' && c <= '9') {
+                out.append(c);
+            }
+        }
+        return out;
+    }
+
+    public static StringBuilder appendName(StringBuilder out, CharSequence name) {
+        if (name == null) {
+            return out.append((String) null);
+        }
+        return name.isEmpty() ? out : out.append(name.charAt(0)).append('.');
+    }
+
+    public static StringBuilder appendText(StringBuilder out, CharSequence text) {
+        if (text == null) {
+            return out.append((String) null);
+        }
+        int i = 0;
+        int length = text.length();
+        while (i < length) {
+            if (!isDigit(text.charAt(i))) {
+                out.append(text.charAt(i++));
+                continue;
+            }
+            int end = i;
+            int digits = 0;
+            for (int j = i; j < length && (isDigit(text.charAt(j)) || text.charAt(j) == '-'); j++) {
+                if (isDigit(text.charAt(j))) {
+                    digits++;
+                    end = j + 1;
+                }
+            }
+            if (digits >= 9) {
+                appendSsn(out, CharBuffer.wrap(text, i, end));
+            } else {
+                out.append(text, i, end);
+            }
+            i = end;
+        }
+        return out;
+    }
+
+    public static StringBuilder appendDateOfBirth(StringBuilder out, LocalDate dateOfBirth) {
+        if (dateOfBirth == null) {
+            return out.append((String) null);
+        }
+        return out.append(dateOfBirth.getYear()).append("-**-**");
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+}
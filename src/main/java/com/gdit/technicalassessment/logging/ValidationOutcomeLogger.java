@@ -0,0 +1,90 @@
+package com.gdit.technicalassessment.logging;
+
+import com.gdit.technicalassessment.config.ValidationLoggingProperties;
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.ResponseView;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationMode;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * Writes one key=value line per validated application. Every invalid outcome is logged; valid ones only at
+ * the configured sample rate, so the common path usually skips logging altogether. Applications appear
+ * through their masked {@code toString()}, and failures by rule name only because failure messages can
+ * echo submitted values.
+ */
+@Slf4j
+@Component
+public class ValidationOutcomeLogger {
+
+    private final double successSampleRate;
+    private final DoubleSupplier random;
+
+    @Autowired
+    public ValidationOutcomeLogger(ValidationLoggingProperties properties) {
+        this(properties.successSampleRate(), () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    ValidationOutcomeLogger(double successSampleRate, DoubleSupplier random) {
+        this.successSampleRate = successSampleRate;
+        this.random = random;
+    }
+
+    public void logOutcome(Application application, ValidationMode mode, ResponseView view, String ruleSetVersion,
+                           ValidationDetails details, long elapsedNanos) {
+        if (log.isInfoEnabled() && shouldLog(details.status())) {
+            write(application, mode, view, ruleSetVersion, details.status(), failedRuleNames(details.failedRules()),
+                    elapsedNanos);
+        }
+    }
+
+    public void logOutcome(Application application, ValidationMode mode, ResponseView view, String ruleSetVersion,
+                           CompactValidationDetails details, long elapsedNanos) {
+        if (log.isInfoEnabled() && shouldLog(details.status())) {
+            write(application, mode, view, ruleSetVersion, details.status(), Arrays.toString(details.failedRuleIds()),
+                    elapsedNanos);
+        }
+    }
+
+    boolean shouldLog(ValidationStatus status) {
+        if (status != ValidationStatus.VALID) {
+            return true;
+        }
+        return successSampleRate >= 1.0 || (successSampleRate > 0 && random.getAsDouble() < successSampleRate);
+    }
+
+    private static void write(Application application, ValidationMode mode, ResponseView view,
+                              String ruleSetVersion, ValidationStatus status, Object failedRules, long elapsedNanos) {
+        log.info("validation status={} mode={} view={} ruleSet={} failedRules={} elapsedMicros={} application={}",
+                status, mode.getValue(), view.getValue(), ruleSetVersion != null ? ruleSetVersion : "default",
+                failedRules, elapsedNanos / 1_000, application);
+    }
+
+    private static Object failedRuleNames(List<RuleResult> failedRules) {
+        if (failedRules == null) {
+            return "-";
+        }
+        StringBuilder names = new StringBuilder(16 * failedRules.size() + 2).append('[');
+        String previous = null;
+        for (RuleResult failure : failedRules) {
+            if (!failure.ruleName().equals(previous)) {
+                if (previous != null) {
+                    names.append(',');
+                }
+                previous = failure.ruleName();
+                names.append(previous);
+            }
+        }
+        return names.append(']');
+    }
+}
@@ -0,0 +1,9 @@
+package com.gdit.technicalassessment.model;
+
+public record AdmissionStats(
+        int limit,
+        int inFlight,
+        long admitted,
+        long rejected
+) {
+}
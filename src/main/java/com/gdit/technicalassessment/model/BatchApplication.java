@@ -0,0 +1,10 @@
+package com.gdit.technicalassessment.model;
+
+import lombok.Builder;
+
+@Builder
+public record BatchApplication(
+        String id,
+        Application application
+) {
+}
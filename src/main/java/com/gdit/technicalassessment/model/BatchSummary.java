@@ -0,0 +1,11 @@
+package com.gdit.technicalassessment.model;
+
+import lombok.Builder;
+
+@Builder
+public record BatchSummary(
+        int total,
+        int valid,
+        int invalid
+) {
+}
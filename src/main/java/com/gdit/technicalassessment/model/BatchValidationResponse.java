@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.model;
+
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+public record BatchValidationResponse(
+        BatchSummary summary,
+        List<BatchRecordResult> results
+) {
+}
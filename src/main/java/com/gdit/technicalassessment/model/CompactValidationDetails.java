@@ -0,0 +1,51 @@
+package com.gdit.technicalassessment.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+
+/**
+ * Validation outcome reduced to a bitset of failed rule ids (bit {@code n} of {@code failedRules} is rule id
+ * {@code n}) and the {@link RuleMessage#code() codes} of the failure messages in ascending order. Passed and
+ * not-applicable rules are not listed.
+ */
+@JsonInclude(JsonInclude.Include.NON_EMPTY)
+public record CompactValidationDetails(
+        ValidationStatus status,
+        long[] failedRules,
+        int[] messageCodes
+) {
+
+    public static final CompactValidationDetails VALID =
+            new CompactValidationDetails(ValidationStatus.VALID, new long[0], new int[0]);
+
+    public boolean isFailed(int ruleId) {
+        int word = ruleId >>> 6;
+        return word < failedRules.length && (failedRules[word] & (1L << ruleId)) != 0;
+    }
+
+    public int[] failedRuleIds() {
+        return BitSet.valueOf(failedRules).stream().toArray();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof CompactValidationDetails other
+                && status == other.status
+                && Arrays.equals(failedRules, other.failedRules)
+                && Arrays.equals(messageCodes, other.messageCodes);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Objects.hashCode(status) + Arrays.hashCode(failedRules)) + Arrays.hashCode(messageCodes);
+    }
+
+    @Override
+    public String toString() {
+        return "CompactValidationDetails[status=" + status + ", failedRules=" + Arrays.toString(failedRuleIds())
+                + ", messageCodes=" + Arrays.toString(messageCodes) + "]";
+    }
+}
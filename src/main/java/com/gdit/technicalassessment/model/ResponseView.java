@@ -0,0 +1,31 @@
+package com.gdit.technicalassessment.model;
+
+public enum ResponseView {
+    FULL("full"),
+    FAILURES_ONLY("failuresOnly"),
+    STATUS_ONLY("statusOnly"),
+    COMPACT("compact");
+
+    private final String value;
+
+    ResponseView(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ResponseView fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return FULL;
+        }
+        for (ResponseView view : ResponseView.values()) {
+            if (view.value.equalsIgnoreCase(value) || view.name().equalsIgnoreCase(value)) {
+                return view;
+            }
+        }
+        throw new IllegalArgumentException("Invalid response view: " + value +
+                ". Valid values are: full, failuresOnly, statusOnly, compact");
+    }
+}
@@ -0,0 +1,7 @@
+package com.gdit.technicalassessment.model;
+
+public record RevalidationResult(
+        String token,
+        ValidationDetails details
+) {
+}
@@ -0,0 +1,137 @@
+package com.gdit.technicalassessment.model;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Failure messages produced by the built-in rules. Each constant names a template in the
+ * {@code messages/rule-messages} bundle whose {@code {n}} placeholders are filled positionally from
+ * the arguments captured with the failure. Templates are parsed once per locale and only rendered
+ * when a {@link RuleResult} message is read.
+ * <p>
+ * Each message also has a stable numeric code, {@code <rule id> * 100 + n}, reported by compact results.
+ * Codes must never be reused.
+ */
+public enum RuleMessage implements RuleMessageTemplate {
+
+    DEPENDENCY_STATUS_MISSING(301, 0),
+    DEPENDENT_INCOME_MISSING(302, 0),
+    DEPENDENT_PARENT_INCOME_MISSING(303, 0),
+    HOUSEHOLD_MISSING(501, 0),
+    HOUSEHOLD_SIZE_MISSING(502, 0),
+    HOUSEHOLD_COLLEGE_MISSING(503, 0),
+    HOUSEHOLD_SIZE_NEGATIVE(504, 1),
+    HOUSEHOLD_COLLEGE_NEGATIVE(505, 1),
+    HOUSEHOLD_COLLEGE_EXCEEDS_SIZE(506, 2),
+    INCOME_MISSING(401, 0),
+    STUDENT_INCOME_NEGATIVE(402, 1),
+    PARENT_INCOME_NEGATIVE(403, 1),
+    MARITAL_STATUS_MISSING(701, 0),
+    SPOUSE_INFO_MISSING(702, 0),
+    SPOUSE_INFO_UNEXPECTED(703, 0),
+    SPOUSE_FIRST_NAME_MISSING(704, 0),
+    SPOUSE_LAST_NAME_MISSING(705, 0),
+    SPOUSE_SSN_MISSING(706, 0),
+    SPOUSE_SSN_UNISSUED(707, 1),
+    SPOUSE_SSN_MALFORMED(708, 1),
+    SSN_MISSING(201, 0),
+    SSN_UNISSUED(202, 1),
+    SSN_MALFORMED(203, 1),
+    STATE_MISSING(601, 0),
+    STATE_INVALID(602, 1),
+    DATE_OF_BIRTH_MISSING(101, 0),
+    DATE_OF_BIRTH_IN_FUTURE(102, 1),
+    STUDENT_UNDER_MINIMUM_AGE(103, 2);
+
+    public static final String BUNDLE = "messages/rule-messages";
+
+    private static final ResourceBundle.Control NO_FALLBACK =
+            ResourceBundle.Control.getNoFallbackControl(ResourceBundle.Control.FORMAT_PROPERTIES);
+    // keyed by the locale of the bundle actually found, so arbitrary request locales share entries
+    private static final Map<Locale, Template[]> TEMPLATES_BY_LOCALE = new ConcurrentHashMap<>();
+
+    private final int code;
+    private final int argumentCount;
+    private final String key;
+
+    RuleMessage(int code, int argumentCount) {
+        this.code = code;
+        this.argumentCount = argumentCount;
+        this.key = name().toLowerCase(Locale.ROOT).replace('_', '.');
+    }
+
+    public int code() {
+        return code;
+    }
+
+    public int argumentCount() {
+        return argumentCount;
+    }
+
+    public String key() {
+        return key;
+    }
+
+    @Override
+    public String render(Locale locale, Object... arguments) {
+        ResourceBundle bundle = ResourceBundle.getBundle(BUNDLE, locale != null ? locale : Locale.ROOT,
+                RuleMessage.class.getClassLoader(), NO_FALLBACK);
+        return TEMPLATES_BY_LOCALE.computeIfAbsent(bundle.getLocale(), bundleLocale -> compileAll(bundle))[ordinal()]
+                .render(arguments);
+    }
+
+    private static Template[] compileAll(ResourceBundle bundle) {
+        RuleMessage[] messages = values();
+        Template[] templates = new Template[messages.length];
+        for (RuleMessage message : messages) {
+            templates[message.ordinal()] = Template.parse(message, bundle.getString(message.key));
+        }
+        return templates;
+    }
+
+    /** A pattern split at its placeholders: {@code literals[i]} precedes {@code argument[arguments[i]]}. */
+    private record Template(String[] literals, int[] arguments, String tail) {
+
+        static Template parse(RuleMessage message, String pattern) {
+            String[] literals = new String[message.argumentCount * 2];
+            int[] arguments = new int[literals.length];
+            int count = 0;
+            int start = 0;
+            int open;
+            while ((open = pattern.indexOf('{', start)) >= 0) {
+                int close = pattern.indexOf('}', open);
+                if (close < 0) {
+                    break;
+                }
+                int index = Integer.parseInt(pattern.substring(open + 1, close));
+                if (index < 0 || index >= message.argumentCount) {
+                    throw new IllegalArgumentException(String.format(
+                            "Message %s has no argument {%d}: %s", message.key, index, pattern));
+                }
+                if (count == literals.length) {
+                    literals = Arrays.copyOf(literals, count * 2 + 1);
+                    arguments = Arrays.copyOf(arguments, count * 2 + 1);
+                }
+                literals[count] = pattern.substring(start, open);
+                arguments[count++] = index;
+                start = close + 1;
+            }
+            return new Template(Arrays.copyOf(literals, count), Arrays.copyOf(arguments, count),
+                    pattern.substring(start));
+        }
+
+        String render(Object[] values) {
+            if (literals.length == 0) {
+                return tail;
+            }
+            StringBuilder rendered = new StringBuilder(tail.length() + 16 * literals.length);
+            for (int i = 0; i < literals.length; i++) {
+                rendered.append(literals[i]).append(values[arguments[i]]);
+            }
+            return rendered.append(tail).toString();
+        }
+    }
+}
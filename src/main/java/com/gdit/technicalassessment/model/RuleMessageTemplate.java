@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.model;
+
+import java.util.Locale;
+
+/**
+ * Renders a failure message from the arguments captured when the failure was recorded. Implemented by
+ * {@link RuleMessage} for the built-in rules and by the message templates of declarative rules.
+ */
+public interface RuleMessageTemplate {
+
+    String render(Locale locale, Object... arguments);
+}
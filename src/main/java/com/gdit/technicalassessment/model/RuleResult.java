@@ -1,13 +1,93 @@
 package com.gdit.technicalassessment.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
+import org.springframework.context.i18n.LocaleContextHolder;
 
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Outcome of one rule. A failure raised with a {@link RuleMessageTemplate} keeps the template and its arguments
+ * and renders {@link #message()} on read, in the locale of the current request. Comparing, hashing and printing
+ * results does not render templated messages.
+ */
 @Builder
 @JsonInclude(JsonInclude.Include.NON_NULL)
 public record RuleResult(
         String ruleName,
-        String message
+        String message,
+        @JsonIgnore RuleMessageTemplate template,
+        @JsonIgnore Object[] arguments
 ) {
-}
 
+    private static final Map<String, RuleResult> PASSED = new ConcurrentHashMap<>();
+
+    public RuleResult(String ruleName, String message) {
+        this(ruleName, message, null, null);
+    }
+
+    public static RuleResult passed(String ruleName) {
+        if (ruleName == null) {
+            return RuleResult.builder().build();
+        }
+        return PASSED.computeIfAbsent(ruleName, name -> new RuleResult(name, null));
+    }
+
+    public static RuleResult failed(String ruleName, RuleMessageTemplate template, Object... arguments) {
+        return new RuleResult(ruleName, null, template, arguments);
+    }
+
+    @Override
+    public String message() {
+        return template != null ? message(LocaleContextHolder.getLocale()) : message;
+    }
+
+    public String message(Locale locale) {
+        return template != null ? template.render(locale, arguments) : message;
+    }
+
+    /**
+     * Two templated failures are equal when they share the template and arguments. Only a templated failure
+     * compared with a literal message is rendered, in {@link Locale#ROOT}.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RuleResult other) || !Objects.equals(ruleName, other.ruleName)
+                || isPass() != other.isPass()) {
+            return false;
+        }
+        if (template != null && other.template != null) {
+            return template == other.template && Arrays.equals(arguments, other.arguments);
+        }
+        if (template == null && other.template == null) {
+            return Objects.equals(message, other.message);
+        }
+        return Objects.equals(message(Locale.ROOT), other.message(Locale.ROOT));
+    }
+
+    // a templated failure can equal a literal one, so only what both forms share is hashed
+    @Override
+    public int hashCode() {
+        return Objects.hash(ruleName, isPass());
+    }
+
+    @Override
+    public String toString() {
+        return template != null
+                ? "RuleResult[ruleName=" + ruleName + ", template=" + template + ", arguments="
+                        + Arrays.toString(arguments) + "]"
+                : "RuleResult[ruleName=" + ruleName + ", message=" + message + "]";
+    }
+
+    private boolean isPass() {
+        return message == null && template == null;
+    }
+}
@@ -0,0 +1,11 @@
+package com.gdit.technicalassessment.model;
+
+import java.util.List;
+
+public record ShadowDiff(
+        ValidationStatus primaryStatus,
+        ValidationStatus candidateStatus,
+        List<ShadowFailure> primaryFailures,
+        List<ShadowFailure> candidateFailures
+) {
+}
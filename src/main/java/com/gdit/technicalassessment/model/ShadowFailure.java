@@ -0,0 +1,19 @@
+package com.gdit.technicalassessment.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * A failed rule as recorded in a {@link ShadowDiff}: the rule name and, for catalogued messages, the
+ * {@link RuleMessage} code. The message text is never kept, since it can echo applicant input.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ShadowFailure(
+        String ruleName,
+        Integer code
+) {
+
+    public static ShadowFailure of(RuleResult failure) {
+        return new ShadowFailure(failure.ruleName(),
+                failure.template() instanceof RuleMessage ruleMessage ? ruleMessage.code() : null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gdit.technicalassessment.model;
+
+import java.util.List;
+
+public record ShadowStats(
+        long sampled,
+        long dropped,
+        long matched,
+        long mismatched,
+        long errors,
+        List<String> candidateRules,
+        List<ShadowDiff> recentDiffs
+) {
+}
@@ -1,8 +1,18 @@
 package com.gdit.technicalassessment.model;
 
+import com.gdit.technicalassessment.logging.PiiMasking;
+
 public record SpouseInfo(
         String firstName,
         String lastName,
         String ssn
 ) {
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(64).append("SpouseInfo[firstName=");
+        PiiMasking.appendName(out, firstName).append(", lastName=");
+        PiiMasking.appendName(out, lastName).append(", ssn=");
+        return PiiMasking.appendSsn(out, ssn).append(']').toString();
+    }
 }
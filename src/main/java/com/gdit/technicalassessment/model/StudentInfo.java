@@ -1,5 +1,6 @@
 package com.gdit.technicalassessment.model;
 
+import com.gdit.technicalassessment.logging.PiiMasking;
 import lombok.Builder;
 import java.time.LocalDate;
 
@@ -10,4 +11,13 @@ public record StudentInfo(
         String ssn,
         LocalDate dateOfBirth
 ) {
+
+    @Override
+    public String toString() {
+        StringBuilder out = new StringBuilder(80).append("StudentInfo[firstName=");
+        PiiMasking.appendName(out, firstName).append(", lastName=");
+        PiiMasking.appendName(out, lastName).append(", ssn=");
+        PiiMasking.appendSsn(out, ssn).append(", dateOfBirth=");
+        return PiiMasking.appendDateOfBirth(out, dateOfBirth).append(']').toString();
+    }
 }
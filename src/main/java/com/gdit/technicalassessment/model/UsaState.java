@@ -1,9 +1,22 @@
 package com.gdit.technicalassessment.model;
 
+import com.gdit.technicalassessment.reference.CodeTable;
+
+import java.util.Arrays;
+
 public enum UsaState {
     AL, AK, AZ, AR, CA, CO, CT, DE, FL, GA,
     HI, ID, IL, IN, IA, KS, KY, LA, ME, MD,
     MA, MI, MN, MS, MO, MT, NE, NV, NH, NJ,
     NM, NY, NC, ND, OH, OK, OR, PA, RI, SC,
-    SD, TN, TX, UT, VT, VA, WA, WV, WI, WY
+    SD, TN, TX, UT, VT, VA, WA, WV, WI, WY;
+
+    private static final UsaState[] VALUES = values();
+    private static final CodeTable CODES = CodeTable.of("UsaState",
+            Arrays.stream(VALUES).map(UsaState::name).toList());
+
+    public static UsaState fromCode(String code) {
+        int index = CODES.indexOf(code);
+        return index < 0 ? null : VALUES[index];
+    }
 }
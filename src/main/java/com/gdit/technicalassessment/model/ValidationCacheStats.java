@@ -0,0 +1,9 @@
+package com.gdit.technicalassessment.model;
+
+public record ValidationCacheStats(
+        long hits,
+        long misses,
+        long evictions,
+        int size
+) {
+}
@@ -1,5 +1,6 @@
 package com.gdit.technicalassessment.model;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 
 import java.util.List;
@@ -7,8 +8,12 @@ import java.util.List;
 @Builder
 public record ValidationDetails(
         ValidationStatus status,
+        @JsonInclude(JsonInclude.Include.NON_NULL)
         List<RuleResult> passedRules,
-        List<RuleResult> failedRules
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        List<RuleResult> failedRules,
+        @JsonInclude(JsonInclude.Include.NON_EMPTY)
+        List<RuleResult> notApplicableRules
 ) {
 
 }
@@ -0,0 +1,13 @@
+package com.gdit.technicalassessment.model;
+
+public enum ValidationJobState {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED || this == CANCELLED;
+    }
+}
@@ -0,0 +1,25 @@
+package com.gdit.technicalassessment.model;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ValidationJobStatus(
+        String id,
+        ValidationJobState state,
+        String ruleSetVersion,
+        Instant submittedAt,
+        Instant startedAt,
+        Instant finishedAt,
+        long processed,
+        long valid,
+        long invalid,
+        long bytesRead,
+        long totalBytes,
+        Instant estimatedCompletion,
+        String error
+) {
+}
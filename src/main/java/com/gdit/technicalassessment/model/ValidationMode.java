@@ -0,0 +1,29 @@
+package com.gdit.technicalassessment.model;
+
+public enum ValidationMode {
+    COLLECT_ALL("collectAll"),
+    FIRST_FAILURE("firstFailure");
+
+    private final String value;
+
+    ValidationMode(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ValidationMode fromString(String value) {
+        if (value == null || value.isBlank()) {
+            return COLLECT_ALL;
+        }
+        for (ValidationMode mode : ValidationMode.values()) {
+            if (mode.value.equalsIgnoreCase(value) || mode.name().equalsIgnoreCase(value)) {
+                return mode;
+            }
+        }
+        throw new IllegalArgumentException("Invalid validation mode: " + value +
+                ". Valid values are: collectAll, firstFailure");
+    }
+}
@@ -0,0 +1,211 @@
+package com.gdit.technicalassessment.reference;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Immutable set of reference codes behind a perfect hash, so every lookup is a single probe. Lookups trim
+ * surrounding whitespace and fold ASCII case while reading the caller's characters, so they never allocate.
+ */
+public final class CodeTable {
+
+    private static final int MAX_DISPLACEMENT = 1 << 16;
+    private static final int MAX_SLOTS = 1 << 20;
+    private static final int GOLDEN_RATIO = 0x9E3779B9;
+
+    private final String name;
+    private final List<String> codes;
+    private final int[] displacements;
+    private final int[] slots;
+    private final int maxLength;
+
+    private CodeTable(String name, List<String> codes, int[] displacements, int[] slots, int maxLength) {
+        this.name = name;
+        this.codes = codes;
+        this.displacements = displacements;
+        this.slots = slots;
+        this.maxLength = maxLength;
+    }
+
+    public static CodeTable of(String name, Collection<String> codes) {
+        List<String> normalized = new ArrayList<>(codes.size());
+        Set<String> seen = new HashSet<>();
+        int maxLength = 0;
+        for (String code : codes) {
+            String upper = code == null ? "" : code.trim().toUpperCase(Locale.ROOT);
+            if (upper.isEmpty() || !seen.add(upper)) {
+                throw new IllegalArgumentException(
+                        String.format("Blank or duplicate code '%s' in code table %s", code, name));
+            }
+            normalized.add(upper);
+            maxLength = Math.max(maxLength, upper.length());
+        }
+
+        int[] hashes = new int[normalized.size()];
+        for (int i = 0; i < hashes.length; i++) {
+            String code = normalized.get(i);
+            hashes[i] = hash(code, 0, code.length());
+        }
+
+        int bucketCount = Integer.highestOneBit(Math.max(1, normalized.size() / 2)) << 1;
+        int slotCount = Integer.highestOneBit(Math.max(1, normalized.size())) << 1;
+        for (; slotCount <= MAX_SLOTS; slotCount <<= 1) {
+            int[][] placement = place(hashes, bucketCount, slotCount);
+            if (placement != null) {
+                return new CodeTable(name, List.copyOf(normalized), placement[0], placement[1], maxLength);
+            }
+        }
+        throw new IllegalArgumentException("Unable to build a perfect hash for code table " + name);
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int size() {
+        return codes.size();
+    }
+
+    public List<String> codes() {
+        return codes;
+    }
+
+    public String codeAt(int index) {
+        return codes.get(index);
+    }
+
+    public boolean contains(CharSequence code) {
+        return indexOf(code) >= 0;
+    }
+
+    /**
+     * Returns the position of the code in the order the table was built with, or {@code -1} when absent.
+     */
+    public int indexOf(CharSequence code) {
+        if (code == null) {
+            return -1;
+        }
+
+        int start = 0;
+        int end = code.length();
+        while (start < end && Character.isWhitespace(code.charAt(start))) {
+            start++;
+        }
+        while (end > start && Character.isWhitespace(code.charAt(end - 1))) {
+            end--;
+        }
+
+        int length = end - start;
+        if (length == 0 || length > maxLength) {
+            return -1;
+        }
+
+        int hash = hash(code, start, end);
+        int displacement = displacements[bucketOf(hash, displacements.length)];
+        int index = slots[slotOf(hash, displacement, slots.length)];
+        if (index < 0) {
+            return -1;
+        }
+
+        String candidate = codes.get(index);
+        if (candidate.length() != length) {
+            return -1;
+        }
+        for (int i = 0; i < length; i++) {
+            if (candidate.charAt(i) != toUpperAscii(code.charAt(start + i))) {
+                return -1;
+            }
+        }
+        return index;
+    }
+
+    @Override
+    public String toString() {
+        return name + codes;
+    }
+
+    private static int[][] place(int[] hashes, int bucketCount, int slotCount) {
+        List<List<Integer>> buckets = new ArrayList<>(bucketCount);
+        for (int b = 0; b < bucketCount; b++) {
+            buckets.add(new ArrayList<>(2));
+        }
+        for (int i = 0; i < hashes.length; i++) {
+            buckets.get(bucketOf(hashes[i], bucketCount)).add(i);
+        }
+
+        Integer[] order = new Integer[bucketCount];
+        for (int b = 0; b < bucketCount; b++) {
+            order[b] = b;
+        }
+        Arrays.sort(order, Comparator.comparingInt((Integer b) -> buckets.get(b).size()).reversed());
+
+        int[] displacements = new int[bucketCount];
+        int[] slots = new int[slotCount];
+        Arrays.fill(slots, -1);
+        int[] candidateSlots = new int[hashes.length];
+
+        for (int bucket : order) {
+            List<Integer> members = buckets.get(bucket);
+            if (members.isEmpty()) {
+                break;
+            }
+
+            boolean placed = false;
+            for (int displacement = 0; displacement < MAX_DISPLACEMENT && !placed; displacement++) {
+                placed = true;
+                for (int m = 0; m < members.size() && placed; m++) {
+                    int slot = slotOf(hashes[members.get(m)], displacement, slotCount);
+                    placed = slots[slot] < 0;
+                    for (int earlier = 0; earlier < m && placed; earlier++) {
+                        placed = candidateSlots[earlier] != slot;
+                    }
+                    candidateSlots[m] = slot;
+                }
+                if (placed) {
+                    displacements[bucket] = displacement;
+                    for (int m = 0; m < members.size(); m++) {
+                        slots[candidateSlots[m]] = members.get(m);
+                    }
+                }
+            }
+            if (!placed) {
+                return null;
+            }
+        }
+        return new int[][]{displacements, slots};
+    }
+
+    private static int hash(CharSequence code, int start, int end) {
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + toUpperAscii(code.charAt(i));
+        }
+        return hash;
+    }
+
+    private static int bucketOf(int hash, int bucketCount) {
+        return mix(hash) & (bucketCount - 1);
+    }
+
+    private static int slotOf(int hash, int displacement, int slotCount) {
+        return mix(hash ^ (displacement + 1) * GOLDEN_RATIO) & (slotCount - 1);
+    }
+
+    private static int mix(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ hash >>> 16;
+    }
+
+    private static char toUpperAscii(char c) {
+        return c >= 'a' && c <= 'z' ? (char) (c - ('a' - 'A')) : c;
+    }
+}
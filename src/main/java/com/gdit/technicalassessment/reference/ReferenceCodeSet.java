@@ -0,0 +1,79 @@
+package com.gdit.technicalassessment.reference;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Reference code lists shipped under {@code reference-codes/} on the classpath. Each file lists one code per
+ * line, optionally followed by a description; blank lines and lines starting with {@code #} are ignored.
+ */
+public enum ReferenceCodeSet {
+    STATE("states.txt"),
+    DISTRICT("district.txt"),
+    TERRITORY("territories.txt"),
+    MILITARY("military.txt"),
+    COUNTRY("countries.txt");
+
+    private static final String RESOURCE_DIRECTORY = "reference-codes/";
+
+    private final CodeTable table;
+
+    ReferenceCodeSet(String resource) {
+        this.table = CodeTable.of(name(), load(RESOURCE_DIRECTORY + resource));
+    }
+
+    public CodeTable table() {
+        return table;
+    }
+
+    public static CodeTable union(Collection<ReferenceCodeSet> codeSets) {
+        Set<String> codes = new LinkedHashSet<>();
+        for (ReferenceCodeSet codeSet : codeSets) {
+            codes.addAll(codeSet.table.codes());
+        }
+        String name = codeSets.stream().map(ReferenceCodeSet::name).collect(Collectors.joining("+"));
+        return CodeTable.of(name, codes);
+    }
+
+    private static List<String> load(String resource) {
+        InputStream stream = ReferenceCodeSet.class.getClassLoader().getResourceAsStream(resource);
+        if (stream == null) {
+            throw new IllegalStateException("Reference code list not found on classpath: " + resource);
+        }
+
+        List<String> codes = new ArrayList<>();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                int separator = indexOfWhitespace(trimmed);
+                codes.add(separator < 0 ? trimmed : trimmed.substring(0, separator));
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read reference code list " + resource, e);
+        }
+        return codes;
+    }
+
+    private static int indexOfWhitespace(String line) {
+        for (int i = 0; i < line.length(); i++) {
+            if (Character.isWhitespace(line.charAt(i))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
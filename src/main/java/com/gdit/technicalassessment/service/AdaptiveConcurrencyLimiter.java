@@ -0,0 +1,124 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.AdmissionStats;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Concurrency limit adapted from observed latency by additive increase / multiplicative decrease (AIMD).
+ * A request completing within the latency target raises the limit by {@code 1 / limit}, so a fully used
+ * limit grows by about one per round of requests; a slower request cuts it by the backoff ratio, at most
+ * once per latency-target interval so one burst of slow requests counts as a single congestion signal.
+ * Requests beyond the limit are rejected immediately rather than queued. The limit and the time of the last
+ * decrease are updated by compare-and-set, so releasing a permit never takes a lock.
+ */
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final long latencyTargetNanos;
+    private final double backoffRatio;
+    private final LongSupplier nanoClock;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final AtomicLong estimatedLimitBits;
+    private final AtomicLong lastDecreaseNanos;
+
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget,
+                                      double backoffRatio) {
+        this(initialLimit, minLimit, maxLimit, latencyTarget, backoffRatio, System::nanoTime);
+    }
+
+    AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget,
+                               double backoffRatio, LongSupplier nanoClock) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid concurrency limit bounds [%d, %d]", minLimit, maxLimit));
+        }
+        if (backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Backoff ratio must be between 0 and 1: " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.backoffRatio = backoffRatio;
+        this.nanoClock = nanoClock;
+        this.estimatedLimitBits = new AtomicLong(
+                Double.doubleToRawLongBits(Math.max(minLimit, Math.min(maxLimit, initialLimit))));
+        this.lastDecreaseNanos = new AtomicLong(nanoClock.getAsLong() - latencyTargetNanos);
+    }
+
+    public boolean tryAcquire() {
+        int limit = limit();
+        int current;
+        do {
+            current = inFlight.get();
+            if (current >= limit) {
+                rejected.increment();
+                return false;
+            }
+        } while (!inFlight.compareAndSet(current, current + 1));
+        admitted.increment();
+        return true;
+    }
+
+    /**
+     * Releases a permit and feeds the request's latency into the limit.
+     */
+    public void release(long latencyNanos) {
+        inFlight.decrementAndGet();
+        if (latencyNanos > latencyTargetNanos) {
+            decrease(latencyNanos);
+        } else {
+            increase();
+        }
+    }
+
+    private void increase() {
+        long bits;
+        double estimate;
+        do {
+            bits = estimatedLimitBits.get();
+            estimate = Double.longBitsToDouble(bits);
+            if (estimate >= maxLimit) {
+                return;
+            }
+        } while (!estimatedLimitBits.compareAndSet(bits,
+                Double.doubleToRawLongBits(Math.min(maxLimit, estimate + 1.0 / estimate))));
+    }
+
+    private void decrease(long latencyNanos) {
+        long now = nanoClock.getAsLong();
+        long last = lastDecreaseNanos.get();
+        if (now - last < latencyTargetNanos || !lastDecreaseNanos.compareAndSet(last, now)) {
+            return;
+        }
+        long lowered = estimatedLimitBits.updateAndGet(bits ->
+                Double.doubleToRawLongBits(Math.max(minLimit, Double.longBitsToDouble(bits) * backoffRatio)));
+        log.debug("Latency {}ms above target; concurrency limit lowered to {}",
+                latencyNanos / 1_000_000, (int) Double.longBitsToDouble(lowered));
+    }
+
+    /**
+     * Releases a permit without adjusting the limit, for requests whose latency says nothing about load
+     * (for example whole-file uploads).
+     */
+    public void releaseWithoutSample() {
+        inFlight.decrementAndGet();
+    }
+
+    public int limit() {
+        return (int) Double.longBitsToDouble(estimatedLimitBits.get());
+    }
+
+    public AdmissionStats stats() {
+        return new AdmissionStats(limit(), inFlight.get(), admitted.sum(), rejected.sum());
+    }
+}
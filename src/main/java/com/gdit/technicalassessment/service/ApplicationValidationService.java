@@ -1,61 +1,717 @@
 package com.gdit.technicalassessment.service;
 
+import com.gdit.technicalassessment.config.BatchValidationProperties;
+import com.gdit.technicalassessment.config.RuleSetProperties;
 import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.BatchApplication;
+import com.gdit.technicalassessment.model.BatchRecordResult;
+import com.gdit.technicalassessment.model.BatchSummary;
+import com.gdit.technicalassessment.model.BatchValidationResponse;
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.ResponseView;
+import com.gdit.technicalassessment.model.RevalidationResult;
 import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ShadowStats;
+import com.gdit.technicalassessment.model.ValidationCacheStats;
 import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationMode;
 import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.ApplicationProfile;
+import com.gdit.technicalassessment.validation.CompactResultCollector;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.RuleResultCollector;
 import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.engine.AdaptiveRuleOrder;
+import com.gdit.technicalassessment.validation.engine.ParallelRuleEvaluator;
+import com.gdit.technicalassessment.validation.engine.RuleExecutionPlan;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.stereotype.Service;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 @Slf4j
 @Service
 public class ApplicationValidationService {
 
     private final Collection<ValidationRule> rules;
+    private final ParallelRuleEvaluator parallelEvaluator;
+    private final ForkJoinPool batchPool;
+    private final BatchValidationProperties batchProperties;
+    private final Clock clock;
+    private final ValidationResultCache resultCache;
+    private final RevalidationStore revalidationStore;
+    private final ShadowEvaluator shadowEvaluator;
+    private final Set<String> ruleSetVersions;
+    private final String defaultRuleSetVersion;
+    private volatile RuleConfiguration ruleConfiguration = RuleConfiguration.DEFAULTS;
+    private volatile Map<String, RuleExecutionPlan> plansByVersion;
 
     public ApplicationValidationService(Collection<ValidationRule> rules) {
+        this(rules, Optional.empty(), ForkJoinPool.commonPool(), BatchValidationProperties.defaults(),
+                Clock.systemUTC(), Optional.empty(), Optional.empty(), Optional.empty(),
+                RuleSetProperties.defaults());
+    }
+
+    @Autowired
+    public ApplicationValidationService(Collection<ValidationRule> rules,
+                                        Optional<ParallelRuleEvaluator> parallelEvaluator,
+                                        ForkJoinPool batchValidationPool,
+                                        BatchValidationProperties batchProperties,
+                                        Clock clock,
+                                        Optional<ValidationResultCache> resultCache,
+                                        Optional<RevalidationStore> revalidationStore,
+                                        Optional<ShadowEvaluator> shadowEvaluator,
+                                        RuleSetProperties ruleSetProperties) {
         this.rules = rules;
-        log.info("ApplicationValidationService initialized with {} validation rules", rules.size());
+        this.parallelEvaluator = parallelEvaluator.orElse(null);
+        this.batchPool = batchValidationPool;
+        this.batchProperties = batchProperties;
+        this.clock = clock;
+        this.resultCache = resultCache.orElse(null);
+        this.revalidationStore = revalidationStore.orElse(null);
+        this.shadowEvaluator = shadowEvaluator.orElse(null);
+        this.ruleSetVersions = Collections.unmodifiableSet(ruleSetProperties.resolvedVersions());
+        this.defaultRuleSetVersion = ruleSetProperties.defaultVersion();
+        this.plansByVersion = compilePlans(RuleConfiguration.DEFAULTS);
+        log.info("ApplicationValidationService initialized with {} validation rules ({} active, rule sets: {}, "
+                        + "parallel: {}, cache: {})", rules.size(), planFor(null).size(), ruleSetVersions,
+                this.parallelEvaluator != null, this.resultCache != null);
+    }
+
+    public synchronized void refreshPlan() {
+        this.plansByVersion = compilePlans(ruleConfiguration);
+        log.info("Rule execution plans recompiled for rule sets {}; {} active rules: {}", ruleSetVersions,
+                planFor(null).size(), planFor(null).getRuleNames());
+    }
+
+    public synchronized void applyRuleConfiguration(RuleConfiguration configuration) {
+        Map<String, RuleExecutionPlan> compiled = compilePlans(configuration);
+        this.ruleConfiguration = configuration;
+        this.plansByVersion = compiled;
+        if (shadowEvaluator != null) {
+            shadowEvaluator.applyPrimaryConfiguration(configuration);
+        }
+        log.info("Rule configuration applied; {} active rules: {}", planFor(null).size(),
+                planFor(null).getRuleNames());
+    }
+
+    public Set<String> ruleSetVersions() {
+        return ruleSetVersions;
+    }
+
+    private Map<String, RuleExecutionPlan> compilePlans(RuleConfiguration configuration) {
+        Map<String, RuleExecutionPlan> compiled = new LinkedHashMap<>();
+        Map<String, RuleExecutionPlan> previous = plansByVersion;
+        for (String version : ruleSetVersions) {
+            RuleExecutionPlan plan = RuleExecutionPlan.compile(rules, configuration, version);
+            RuleExecutionPlan previousPlan = previous != null ? previous.get(version) : null;
+            if (previousPlan != null) {
+                plan.inheritAdaptiveOrder(previousPlan);
+            }
+            compiled.put(version, plan);
+        }
+        return Collections.unmodifiableMap(compiled);
+    }
+
+    /**
+     * Returns the rule-set version a request naming {@code ruleSetVersion} is validated against.
+     *
+     * @throws UnknownRuleSetVersionException if no such rule set is compiled
+     */
+    public String resolveRuleSetVersion(String ruleSetVersion) {
+        return planFor(ruleSetVersion).ruleSetVersion();
+    }
+
+    private RuleExecutionPlan planFor(String ruleSetVersion) {
+        String version = ruleSetVersion == null || ruleSetVersion.isBlank() ? defaultRuleSetVersion : ruleSetVersion;
+        RuleExecutionPlan versionPlan = plansByVersion.get(version);
+        if (versionPlan == null) {
+            throw new UnknownRuleSetVersionException(version);
+        }
+        return versionPlan;
     }
 
     public ValidationDetails validateApplication(Application application) {
-        log.info("Starting validation for application");
+        return validateApplication(application, ValidationMode.COLLECT_ALL);
+    }
+
+    public ValidationDetails validateApplication(Application application, ValidationMode mode) {
+        return validateApplication(application, mode, null);
+    }
+
+    public ValidationDetails validateApplication(Application application, ValidationMode mode,
+                                                 String ruleSetVersion) {
+        return validateApplication(application, mode, ruleSetVersion, LocalDate.now(clock));
+    }
+
+    public ValidationDetails validateApplication(Application application, ValidationMode mode,
+                                                 String ruleSetVersion, LocalDate asOfDate) {
+        return validateApplication(application, mode, ResponseView.FULL, ruleSetVersion, asOfDate);
+    }
+
+    public ValidationDetails validateApplication(Application application, ValidationMode mode, ResponseView view,
+                                                 String ruleSetVersion) {
+        return validateApplication(application, mode, view, ruleSetVersion, LocalDate.now(clock));
+    }
+
+    /**
+     * Validates into the parts of a {@link ValidationDetails} that {@code view} keeps. With
+     * {@link ResponseView#FAILURES_ONLY} passed results are never created, and with
+     * {@link ResponseView#STATUS_ONLY} neither are failures. Only full results are added to the result cache
+     * or sampled for shadow evaluation, though any view is served from a cached full result.
+     */
+    public ValidationDetails validateApplication(Application application, ValidationMode mode, ResponseView view,
+                                                 String ruleSetVersion, LocalDate asOfDate) {
+        if (view == ResponseView.COMPACT) {
+            throw new IllegalArgumentException("Compact results are produced by validateCompact");
+        }
+        return validate(application, mode, view, planFor(ruleSetVersion), asOfDate);
+    }
+
+    private ValidationDetails validate(Application application, ValidationMode mode, ResponseView view,
+                                       RuleExecutionPlan currentPlan, LocalDate asOfDate) {
+        if (log.isDebugEnabled()) {
+            log.debug("Starting validation for application (mode: {}, view: {}, rule set: {}, as of: {})", mode,
+                    view.getValue(), currentPlan.ruleSetVersion(), asOfDate);
+        }
+
+        boolean cacheable = resultCache != null && mode == ValidationMode.COLLECT_ALL;
 
-        List<RuleResult> allPassedRules = new ArrayList<>();
-        List<RuleResult> allFailedRules = new ArrayList<>();
+        if (cacheable) {
+            ValidationDetails cached = resultCache.get(application, currentPlan, asOfDate);
+            if (cached != null) {
+                log.debug("Validation served from cache. Status: {}", cached.status());
+                return inView(cached, view);
+            }
+        }
+
+        ValidationDetails validationDetails = mode == ValidationMode.FIRST_FAILURE
+                ? evaluateUntilFirstFailure(application, currentPlan, asOfDate, view)
+                : evaluate(application, currentPlan, asOfDate, parallelEvaluator != null, view);
+
+        if (view != ResponseView.FULL) {
+            log.debug("Validation complete. Status: {}", validationDetails.status());
+            return validationDetails;
+        }
+
+        if (cacheable) {
+            resultCache.put(application, currentPlan, asOfDate, validationDetails);
+        }
+
+        if (shadowEvaluator != null && mode == ValidationMode.COLLECT_ALL
+                && defaultRuleSetVersion.equals(currentPlan.ruleSetVersion()) && shadowEvaluator.shouldSample()) {
+            shadowEvaluator.submit(application, validationDetails,
+                    candidatePlan -> evaluate(application, candidatePlan, asOfDate, false));
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Validation complete. Status: {}, Passed: {}, Failed: {}", validationDetails.status(),
+                    validationDetails.passedRules().size(), validationDetails.failedRules().size());
+        }
 
-        for (ValidationRule rule : rules) {
-            if (rule.isActive()) {
-                log.debug("Applying validation rule: {}", rule.getRuleName());
-                ValidationDetails result = rule.validate(application);
+        return validationDetails;
+    }
+
+    /**
+     * Validates into a {@link CompactValidationDetails}. Compact results bypass the result cache, shadow
+     * evaluation and revalidation tokens.
+     */
+    public CompactValidationDetails validateCompact(Application application, ValidationMode mode,
+                                                    String ruleSetVersion) {
+        return validateCompact(application, mode, ruleSetVersion, LocalDate.now(clock));
+    }
+
+    public CompactValidationDetails validateCompact(Application application, ValidationMode mode,
+                                                    String ruleSetVersion, LocalDate asOfDate) {
+        RuleExecutionPlan currentPlan = planFor(ruleSetVersion);
+        CompactValidationDetails compactDetails;
+        if (mode == ValidationMode.FIRST_FAILURE) {
+            compactDetails = currentPlan.compact(
+                    evaluateUntilFirstFailure(application, currentPlan, asOfDate, ResponseView.FAILURES_ONLY));
+        } else if (parallelEvaluator != null) {
+            compactDetails = currentPlan.compact(
+                    evaluate(application, currentPlan, asOfDate, true, ResponseView.FAILURES_ONLY));
+        } else {
+            compactDetails = evaluateCompact(application, currentPlan, asOfDate);
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Compact validation complete (mode: {}, rule set: {}). Status: {}", mode,
+                    currentPlan.ruleSetVersion(), compactDetails.status());
+        }
+        return compactDetails;
+    }
+
+    /**
+     * Ids of the rules in a rule set, keyed by rule name, for decoding compact results.
+     */
+    public Map<String, Integer> ruleIds(String ruleSetVersion) {
+        return planFor(ruleSetVersion).ruleIds();
+    }
+
+    public boolean isRevalidationEnabled() {
+        return revalidationStore != null;
+    }
+
+    public RevalidationResult validateForRevalidation(Application application) {
+        return validateForRevalidation(application, null);
+    }
+
+    /**
+     * Validates with all rules, like a full {@link ValidationMode#COLLECT_ALL} validation including the result
+     * cache and shadow sampling, and keeps the outcome under a token for later {@link #revalidate} calls.
+     */
+    public RevalidationResult validateForRevalidation(Application application, String ruleSetVersion) {
+        if (revalidationStore == null) {
+            throw new IllegalStateException("Revalidation is not enabled");
+        }
+
+        RuleExecutionPlan currentPlan = planFor(ruleSetVersion);
+        LocalDate asOfDate = LocalDate.now(clock);
+        ValidationDetails validationDetails =
+                validate(application, ValidationMode.COLLECT_ALL, ResponseView.FULL, currentPlan, asOfDate);
+        String token = revalidationStore.create(
+                new RevalidationStore.Session(application, validationDetails, currentPlan, asOfDate));
+        return new RevalidationResult(token, validationDetails);
+    }
+
+    public Optional<RevalidationResult> revalidate(String token, Application changes,
+                                                   Set<ApplicationField> clearedFields) {
+        if (revalidationStore == null) {
+            return Optional.empty();
+        }
+
+        Optional<RevalidationStore.Session> priorSession = revalidationStore.get(token);
+        if (priorSession.isEmpty()) {
+            log.info("Revalidation token not found or expired");
+            return Optional.empty();
+        }
+
+        RevalidationStore.Session prior = priorSession.get();
+        Set<ApplicationField> changedFields = EnumSet.noneOf(ApplicationField.class);
+        Application application = applyChanges(prior.application(), changes, clearedFields, changedFields);
+
+        RuleExecutionPlan currentPlan = planFor(prior.plan().ruleSetVersion());
+        LocalDate asOfDate = LocalDate.now(clock);
+        ValidationDetails validationDetails;
+        if (currentPlan != prior.plan() || !asOfDate.equals(prior.asOfDate())) {
+            log.info("Rule set or validation date changed since the prior validation; re-running all rules");
+            validationDetails = evaluate(application, currentPlan, asOfDate, parallelEvaluator != null);
+        } else {
+            validationDetails = evaluateChanged(application, prior, changedFields, currentPlan, asOfDate);
+        }
+
+        revalidationStore.update(token, new RevalidationStore.Session(application, validationDetails, currentPlan,
+                asOfDate));
+        return Optional.of(new RevalidationResult(token, validationDetails));
+    }
+
+    public Optional<ValidationCacheStats> cacheStats() {
+        return Optional.ofNullable(resultCache).map(ValidationResultCache::stats);
+    }
+
+    public Optional<ShadowStats> shadowStats() {
+        return Optional.ofNullable(shadowEvaluator).map(ShadowEvaluator::stats);
+    }
+
+    public List<ValidationDetails> validateAll(List<Application> applications) {
+        return validateAll(applications, LocalDate.now(clock));
+    }
+
+    public List<ValidationDetails> validateAll(List<Application> applications, LocalDate asOfDate) {
+        List<ValidationDetails> results = validateAll(applications, planFor(null), asOfDate);
+        log.info("Batch validation complete for {} applications", results.size());
+        return results;
+    }
+
+    /**
+     * Validates a client batch in parallel against one rule set, keeping each record's client-supplied id.
+     *
+     * @throws InvalidBatchRecordException if a record has no application; nothing is validated then
+     */
+    public BatchValidationResponse validateBatch(List<BatchApplication> batch, String ruleSetVersion) {
+        int maxSize = batchProperties.maxSize();
+        if (maxSize > 0 && batch.size() > maxSize) {
+            throw new BatchTooLargeException(batch.size(), maxSize);
+        }
+
+        RuleExecutionPlan currentPlan = planFor(ruleSetVersion);
+        List<Application> applications = new ArrayList<>(batch.size());
+        for (int i = 0; i < batch.size(); i++) {
+            BatchApplication batchRecord = batch.get(i);
+            if (batchRecord == null || batchRecord.application() == null) {
+                throw new InvalidBatchRecordException(i);
+            }
+            applications.add(batchRecord.application());
+        }
+        List<ValidationDetails> details = validateAll(applications, currentPlan, LocalDate.now(clock));
+
+        List<BatchRecordResult> results = new ArrayList<>(details.size());
+        int valid = 0;
+        for (int i = 0; i < details.size(); i++) {
+            ValidationDetails recordDetails = details.get(i);
+            if (recordDetails.status() == ValidationStatus.VALID) {
+                valid++;
+            }
+            results.add(new BatchRecordResult(batch.get(i).id(), recordDetails));
+        }
 
-                if (result.passedRules() != null) {
-                    allPassedRules.addAll(result.passedRules());
+        BatchSummary summary = new BatchSummary(results.size(), valid, results.size() - valid);
+        log.info("Batch validation against rule set {} complete. Total: {}, Valid: {}, Invalid: {}",
+                currentPlan.ruleSetVersion(), summary.total(), summary.valid(), summary.invalid());
+        return new BatchValidationResponse(summary, results);
+    }
+
+    public List<CompactValidationDetails> validateAllCompact(List<Application> applications) {
+        return validateAllCompact(applications, LocalDate.now(clock));
+    }
+
+    public List<CompactValidationDetails> validateAllCompact(List<Application> applications, LocalDate asOfDate) {
+        RuleExecutionPlan currentPlan = planFor(null);
+        List<CompactValidationDetails> results = validateEach(applications,
+                new CompactValidationDetails[applications.size()],
+                application -> evaluateCompact(application, currentPlan, asOfDate));
+        log.info("Compact batch validation complete for {} applications", results.size());
+        return results;
+    }
+
+    /**
+     * Validates applications as they are pulled from {@code source} with at most
+     * {@code validation.batch.stream-max-in-flight} on the batch pool at once, and hands each result to
+     * {@code consumer} in input order on the calling thread. Reading stops while the oldest result is not
+     * yet consumed, so a slow consumer throttles the source and memory stays bounded by the window.
+     *
+     * @return the number of applications validated
+     * @throws InvalidBatchRecordException if the source yields a {@code null} application; results before it
+     *                                     have already been consumed
+     */
+    public long validateStreaming(Iterator<Application> source, String ruleSetVersion,
+                                  Consumer<ValidationDetails> consumer) {
+        RuleExecutionPlan currentPlan = planFor(ruleSetVersion);
+        LocalDate asOfDate = LocalDate.now(clock);
+        Locale locale = LocaleContextHolder.getLocale();
+        int maxInFlight = Math.max(1, batchProperties.streamMaxInFlight());
+        ArrayDeque<ForkJoinTask<ValidationDetails>> inFlight = new ArrayDeque<>(maxInFlight);
+        long validated = 0;
+
+        try {
+            while (source.hasNext()) {
+                while (!inFlight.isEmpty() && (inFlight.size() == maxInFlight || inFlight.peek().isDone())) {
+                    consumer.accept(inFlight.poll().join());
+                    validated++;
+                }
+                Application application = source.next();
+                if (application == null) {
+                    throw new InvalidBatchRecordException(validated + inFlight.size());
                 }
+                inFlight.add(batchPool.submit(() -> evaluateInLocale(application, currentPlan, asOfDate, locale)));
+            }
+            while (!inFlight.isEmpty()) {
+                consumer.accept(inFlight.poll().join());
+                validated++;
+            }
+        } finally {
+            inFlight.forEach(task -> task.cancel(false));
+        }
+
+        log.info("Streaming validation against rule set {} complete for {} applications",
+                currentPlan.ruleSetVersion(), validated);
+        return validated;
+    }
+
+    private List<ValidationDetails> validateAll(List<Application> applications, RuleExecutionPlan currentPlan,
+                                                LocalDate asOfDate) {
+        return validateEach(applications, new ValidationDetails[applications.size()],
+                application -> evaluate(application, currentPlan, asOfDate, false));
+    }
+
+    private <T> List<T> validateEach(List<Application> applications, T[] results, Function<Application, T> validator) {
+        if (applications.isEmpty()) {
+            return List.of();
+        }
+
+        int splitThreshold = Math.max(1, batchProperties.splitThreshold());
+
+        if (applications.size() <= splitThreshold) {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = validator.apply(applications.get(i));
+            }
+        } else {
+            batchPool.invoke(new BatchValidationTask<>(applications, results, validator, splitThreshold));
+        }
+
+        log.debug("Validated {} applications", results.length);
+        return Arrays.asList(results);
+    }
+
+    public Stream<ValidationDetails> validateAll(Stream<Application> applications) {
+        return validateAll(applications, LocalDate.now(clock));
+    }
+
+    public Stream<ValidationDetails> validateAll(Stream<Application> applications, LocalDate asOfDate) {
+        RuleExecutionPlan currentPlan = planFor(null);
+        Iterator<Application> source = applications.iterator();
+        int chunkSize = Math.max(1, batchProperties.streamChunkSize());
+
+        Iterator<List<ValidationDetails>> chunks = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return source.hasNext();
+            }
+
+            @Override
+            public List<ValidationDetails> next() {
+                if (!source.hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<Application> chunk = new ArrayList<>(chunkSize);
+                while (chunk.size() < chunkSize && source.hasNext()) {
+                    chunk.add(source.next());
+                }
+                return validateAll(chunk, currentPlan, asOfDate);
+            }
+        };
+
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(chunks, Spliterator.ORDERED), false)
+                .flatMap(List::stream)
+                .onClose(applications::close);
+    }
+
+    // pool threads carry no request locale, so the caller's is set for any message rendered during evaluation
+    private ValidationDetails evaluateInLocale(Application application, RuleExecutionPlan currentPlan,
+                                               LocalDate asOfDate, Locale locale) {
+        LocaleContext previous = LocaleContextHolder.getLocaleContext();
+        LocaleContextHolder.setLocale(locale);
+        try {
+            return evaluate(application, currentPlan, asOfDate, false);
+        } finally {
+            LocaleContextHolder.setLocaleContext(previous);
+        }
+    }
+
+    private ValidationDetails evaluate(Application application, RuleExecutionPlan currentPlan, LocalDate asOfDate,
+                                       boolean parallelRules) {
+        return evaluate(application, currentPlan, asOfDate, parallelRules, ResponseView.FULL);
+    }
+
+    private ValidationDetails evaluate(Application application, RuleExecutionPlan currentPlan, LocalDate asOfDate,
+                                       boolean parallelRules, ResponseView view) {
+        ApplicationFacts facts = currentPlan.usesFacts() ? ApplicationFacts.of(application, asOfDate) : null;
+        int profileKey = ApplicationProfile.keyOf(application);
+        int[] applicableRules = currentPlan.applicableRules(profileKey);
+        int ruleCount = applicableRules.length;
+
+        RuleResultCollector collector = newCollector(view, ruleCount);
+
+        ValidationDetails[] parallelResults = parallelRules && ruleCount > 1
+                ? parallelEvaluator.evaluate(currentPlan, applicableRules, application, facts)
+                : null;
+
+        for (int i = 0; i < ruleCount; i++) {
+            int ruleIndex = applicableRules[i];
+            log.debug("Applying validation rule: {}", currentPlan.ruleNameAt(ruleIndex));
+            int failuresBefore = collector.failureCount();
 
-                if (result.failedRules() != null) {
-                    allFailedRules.addAll(result.failedRules());
-                    log.info("Rule {} failed with {} error(s)", rule.getRuleName(), result.failedRules().size());
+            if (parallelResults != null) {
+                collector.addAll(parallelResults[i]);
+            } else {
+                currentPlan.evaluate(ruleIndex, application, facts, collector);
+            }
+
+            if (collector.failureCount() > failuresBefore) {
+                log.debug("Rule {} failed with {} error(s)", currentPlan.ruleNameAt(ruleIndex),
+                        collector.failureCount() - failuresBefore);
+            }
+        }
+
+        ValidationStatus overallStatus = collector.hasFailures()
+                ? ValidationStatus.INVALID
+                : ValidationStatus.VALID;
+
+        return toDetails(overallStatus, collector, currentPlan, profileKey, view);
+    }
+
+    private CompactValidationDetails evaluateCompact(Application application, RuleExecutionPlan currentPlan,
+                                                     LocalDate asOfDate) {
+        ApplicationFacts facts = currentPlan.usesFacts() ? ApplicationFacts.of(application, asOfDate) : null;
+        CompactResultCollector collector = new CompactResultCollector(currentPlan.maxRuleId());
+        for (int ruleIndex : currentPlan.applicableRules(ApplicationProfile.keyOf(application))) {
+            currentPlan.evaluate(ruleIndex, application, facts, collector);
+        }
+        return collector.toDetails();
+    }
+
+    private ValidationDetails evaluateChanged(Application application, RevalidationStore.Session prior,
+                                              Set<ApplicationField> changedFields, RuleExecutionPlan currentPlan,
+                                              LocalDate asOfDate) {
+        int priorProfileKey = ApplicationProfile.keyOf(prior.application());
+        int profileKey = ApplicationProfile.keyOf(application);
+        int[] applicableRules = currentPlan.applicableRules(profileKey);
+
+        boolean[] affected = new boolean[currentPlan.size()];
+        for (ApplicationField field : changedFields) {
+            for (int ruleIndex : currentPlan.rulesReading(field)) {
+                affected[ruleIndex] = true;
+            }
+        }
+
+        Map<String, List<RuleResult>> priorPassed = groupByRule(prior.details().passedRules());
+        Map<String, List<RuleResult>> priorFailed = groupByRule(prior.details().failedRules());
+        RuleResultCollector collector = new RuleResultCollector(applicableRules.length);
+        ApplicationFacts facts = null;
+        int rerunCount = 0;
+
+        for (int ruleIndex : applicableRules) {
+            if (affected[ruleIndex] || !currentPlan.isApplicable(priorProfileKey, ruleIndex)) {
+                if (facts == null && currentPlan.usesFacts()) {
+                    facts = ApplicationFacts.of(application, asOfDate);
                 }
+                log.debug("Applying validation rule: {}", currentPlan.ruleNameAt(ruleIndex));
+                currentPlan.evaluate(ruleIndex, application, facts, collector);
+                rerunCount++;
+            } else {
+                String ruleName = currentPlan.ruleNameAt(ruleIndex);
+                collector.addAll(priorPassed.get(ruleName), priorFailed.get(ruleName));
             }
         }
 
-        ValidationStatus overallStatus = allFailedRules.isEmpty()
-                ? ValidationStatus.VALID
-                : ValidationStatus.INVALID;
+        log.info("Revalidation re-ran {} of {} applicable rules for changed fields {}",
+                rerunCount, applicableRules.length, changedFields);
 
-        log.info("Validation complete. Status: {}, Passed: {}, Failed: {}",
-                overallStatus, allPassedRules.size(), allFailedRules.size());
+        return ValidationDetails.builder()
+                .status(collector.hasFailures() ? ValidationStatus.INVALID : ValidationStatus.VALID)
+                .passedRules(collector.passedRules())
+                .failedRules(collector.failedRules())
+                .notApplicableRules(currentPlan.notApplicableResults(profileKey))
+                .build();
+    }
 
+    private static Map<String, List<RuleResult>> groupByRule(List<RuleResult> results) {
+        Map<String, List<RuleResult>> resultsByRule = new HashMap<>();
+        if (results != null) {
+            for (RuleResult result : results) {
+                resultsByRule.computeIfAbsent(result.ruleName(), name -> new ArrayList<>(1)).add(result);
+            }
+        }
+        return resultsByRule;
+    }
+
+    private static Application applyChanges(Application prior, Application changes,
+                                            Set<ApplicationField> clearedFields,
+                                            Set<ApplicationField> changedFields) {
+        return Application.builder()
+                .studentInfo(changedValue(ApplicationField.STUDENT_INFO, prior.studentInfo(),
+                        changes.studentInfo(), clearedFields, changedFields))
+                .dependencyStatus(changedValue(ApplicationField.DEPENDENCY_STATUS, prior.dependencyStatus(),
+                        changes.dependencyStatus(), clearedFields, changedFields))
+                .maritalStatus(changedValue(ApplicationField.MARITAL_STATUS, prior.maritalStatus(),
+                        changes.maritalStatus(), clearedFields, changedFields))
+                .spouseInfo(changedValue(ApplicationField.SPOUSE_INFO, prior.spouseInfo(),
+                        changes.spouseInfo(), clearedFields, changedFields))
+                .household(changedValue(ApplicationField.HOUSEHOLD, prior.household(),
+                        changes.household(), clearedFields, changedFields))
+                .income(changedValue(ApplicationField.INCOME, prior.income(),
+                        changes.income(), clearedFields, changedFields))
+                .stateOfResidence(changedValue(ApplicationField.STATE_OF_RESIDENCE, prior.stateOfResidence(),
+                        changes.stateOfResidence(), clearedFields, changedFields))
+                .build();
+    }
+
+    private static <T> T changedValue(ApplicationField field, T priorValue, T newValue,
+                                      Set<ApplicationField> clearedFields, Set<ApplicationField> changedFields) {
+        T value = clearedFields.contains(field) ? null : newValue != null ? newValue : priorValue;
+        if (!Objects.equals(value, priorValue)) {
+            changedFields.add(field);
+        }
+        return value;
+    }
+
+    private ValidationDetails evaluateUntilFirstFailure(Application application, RuleExecutionPlan currentPlan,
+                                                        LocalDate asOfDate, ResponseView view) {
+        ApplicationFacts facts = currentPlan.usesFacts() ? ApplicationFacts.of(application, asOfDate) : null;
+        int profileKey = ApplicationProfile.keyOf(application);
+        AdaptiveRuleOrder adaptiveOrder = currentPlan.adaptiveOrder();
+        int[] sequence = adaptiveOrder.currentSequence();
+
+        RuleResultCollector collector = newCollector(view, sequence.length);
+
+        for (int ruleIndex : sequence) {
+            if (!currentPlan.isApplicable(profileKey, ruleIndex)) {
+                continue;
+            }
+
+            log.debug("Applying validation rule: {}", currentPlan.ruleNameAt(ruleIndex));
+            long startNanos = System.nanoTime();
+            currentPlan.evaluate(ruleIndex, application, facts, collector);
+            boolean failed = collector.hasFailures();
+            adaptiveOrder.record(ruleIndex, System.nanoTime() - startNanos, failed);
+
+            if (failed) {
+                log.debug("Rule {} failed with {} error(s); stopping at first failure",
+                        currentPlan.ruleNameAt(ruleIndex), collector.failureCount());
+                return toDetails(ValidationStatus.INVALID, collector, currentPlan, profileKey, view);
+            }
+        }
+
+        return toDetails(ValidationStatus.VALID, collector, currentPlan, profileKey, view);
+    }
+
+    private static RuleResultCollector newCollector(ResponseView view, int expectedRules) {
+        return switch (view) {
+            case FAILURES_ONLY -> RuleResultCollector.failuresOnly();
+            case STATUS_ONLY -> RuleResultCollector.statusOnly();
+            default -> new RuleResultCollector(expectedRules);
+        };
+    }
+
+    private static ValidationDetails toDetails(ValidationStatus status, RuleResultCollector collector,
+                                               RuleExecutionPlan currentPlan, int profileKey, ResponseView view) {
         return ValidationDetails.builder()
-                .status(overallStatus)
-                .passedRules(allPassedRules)
-                .failedRules(allFailedRules)
+                .status(status)
+                .passedRules(collector.passedRules())
+                .failedRules(collector.failedRules())
+                .notApplicableRules(view == ResponseView.FULL ? currentPlan.notApplicableResults(profileKey) : null)
                 .build();
     }
+
+    private static ValidationDetails inView(ValidationDetails details, ResponseView view) {
+        return switch (view) {
+            case FAILURES_ONLY -> ValidationDetails.builder()
+                    .status(details.status())
+                    .failedRules(details.failedRules())
+                    .build();
+            case STATUS_ONLY -> ValidationDetails.builder().status(details.status()).build();
+            default -> details;
+        };
+    }
 }
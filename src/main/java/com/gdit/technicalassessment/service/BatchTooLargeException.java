@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.CONTENT_TOO_LARGE)
+public class BatchTooLargeException extends IllegalArgumentException {
+
+    public BatchTooLargeException(int size, int maxSize) {
+        super(String.format("Batch of %d applications exceeds the maximum of %d", size, maxSize));
+    }
+}
@@ -0,0 +1,48 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.Application;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+class BatchValidationTask<T> extends RecursiveAction {
+
+    private final List<Application> applications;
+    private final T[] results;
+    private final Function<Application, T> validator;
+    private final int splitThreshold;
+    private final int from;
+    private final int to;
+
+    BatchValidationTask(List<Application> applications, T[] results,
+                        Function<Application, T> validator, int splitThreshold) {
+        this(applications, results, validator, splitThreshold, 0, applications.size());
+    }
+
+    private BatchValidationTask(List<Application> applications, T[] results,
+                                Function<Application, T> validator, int splitThreshold,
+                                int from, int to) {
+        this.applications = applications;
+        this.results = results;
+        this.validator = validator;
+        this.splitThreshold = splitThreshold;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from <= splitThreshold) {
+            for (int i = from; i < to; i++) {
+                results[i] = validator.apply(applications.get(i));
+            }
+            return;
+        }
+
+        int middle = (from + to) >>> 1;
+        invokeAll(
+                new BatchValidationTask<>(applications, results, validator, splitThreshold, from, middle),
+                new BatchValidationTask<>(applications, results, validator, splitThreshold, middle, to));
+    }
+}
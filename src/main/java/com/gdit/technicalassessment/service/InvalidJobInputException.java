@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidJobInputException extends IllegalArgumentException {
+
+    public InvalidJobInputException(String message) {
+        super(message);
+    }
+}
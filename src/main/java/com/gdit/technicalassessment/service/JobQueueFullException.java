@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+public class JobQueueFullException extends IllegalStateException {
+
+    public JobQueueFullException() {
+        super("Validation job queue is full; retry later");
+    }
+}
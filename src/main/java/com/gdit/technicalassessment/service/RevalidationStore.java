@@ -0,0 +1,67 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.validation.engine.RuleExecutionPlan;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Bounded, expiring store of prior validations keyed by an opaque token, used to re-run only the rules
+ * affected by a correction. The least recently used session is dropped once the store is full.
+ */
+public class RevalidationStore {
+
+    private final int maximumSessions;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> sessions = new LinkedHashMap<>(16, 0.75f, true);
+
+    public RevalidationStore(int maximumSessions, Duration ttl, Clock clock) {
+        this.maximumSessions = Math.max(1, maximumSessions);
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public String create(Session session) {
+        String token = UUID.randomUUID().toString();
+        update(token, session);
+        return token;
+    }
+
+    public synchronized void update(String token, Session session) {
+        sessions.put(token, new Entry(session, clock.millis() + ttlMillis));
+        while (sessions.size() > maximumSessions) {
+            String eldest = sessions.keySet().iterator().next();
+            sessions.remove(eldest);
+        }
+    }
+
+    public synchronized Optional<Session> get(String token) {
+        Entry entry = sessions.get(token);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis <= clock.millis()) {
+            sessions.remove(token);
+            return Optional.empty();
+        }
+        return Optional.of(entry.session);
+    }
+
+    public synchronized int size() {
+        return sessions.size();
+    }
+
+    public record Session(Application application, ValidationDetails details, RuleExecutionPlan plan,
+                          LocalDate asOfDate) {
+    }
+
+    private record Entry(Session session, long expiresAtMillis) {
+    }
+}
@@ -0,0 +1,152 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ShadowDiff;
+import com.gdit.technicalassessment.model.ShadowFailure;
+import com.gdit.technicalassessment.model.ShadowStats;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.engine.RuleExecutionPlan;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Evaluates a sample of live applications against a candidate rule set on a dedicated bounded executor and
+ * records where the candidate disagrees with the primary result. Results are compared and recorded by rule name
+ * and message code only, so no applicant input reaches the diff log. Only applications validated against the
+ * default rule-set version are sampled, so the candidate is compiled for that version. The candidate configuration
+ * is layered over the primary's, so differences come only from the candidate's own overrides. Submission never
+ * blocks:
+ * when the executor is saturated the sample is dropped.
+ */
+@Slf4j
+public class ShadowEvaluator {
+
+    private final Collection<ValidationRule> rules;
+    private final String ruleSetVersion;
+    private final ExecutorService executor;
+    private final double sampleRate;
+    private final int maxDiffs;
+    private final LongAdder sampled = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder matched = new LongAdder();
+    private final LongAdder mismatched = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+    private final ArrayDeque<ShadowDiff> recentDiffs;
+    private RuleConfiguration primaryConfiguration = RuleConfiguration.DEFAULTS;
+    private RuleConfiguration candidateConfiguration = RuleConfiguration.DEFAULTS;
+    private volatile RuleExecutionPlan candidatePlan;
+
+    public ShadowEvaluator(Collection<ValidationRule> rules, String ruleSetVersion, ExecutorService executor,
+                           double sampleRate, int maxDiffs) {
+        this.rules = rules;
+        this.ruleSetVersion = ruleSetVersion;
+        this.executor = executor;
+        this.sampleRate = sampleRate;
+        this.maxDiffs = Math.max(0, maxDiffs);
+        this.recentDiffs = new ArrayDeque<>(this.maxDiffs);
+        this.candidatePlan = RuleExecutionPlan.compile(rules, RuleConfiguration.DEFAULTS, ruleSetVersion);
+    }
+
+    public synchronized void applyPrimaryConfiguration(RuleConfiguration configuration) {
+        this.primaryConfiguration = configuration;
+        compileCandidate();
+    }
+
+    public synchronized void applyCandidateConfiguration(RuleConfiguration configuration) {
+        this.candidateConfiguration = configuration;
+        compileCandidate();
+    }
+
+    public boolean shouldSample() {
+        return sampleRate >= 1.0 || (sampleRate > 0 && ThreadLocalRandom.current().nextDouble() < sampleRate);
+    }
+
+    public void submit(Application application, ValidationDetails primary,
+                       Function<RuleExecutionPlan, ValidationDetails> evaluation) {
+        RuleExecutionPlan plan = candidatePlan;
+        try {
+            executor.execute(() -> compare(primary, plan, evaluation));
+            sampled.increment();
+        } catch (RejectedExecutionException e) {
+            dropped.increment();
+        }
+    }
+
+    public ShadowStats stats() {
+        List<ShadowDiff> diffs;
+        synchronized (recentDiffs) {
+            diffs = List.copyOf(recentDiffs);
+        }
+        return new ShadowStats(sampled.sum(), dropped.sum(), matched.sum(), mismatched.sum(), errors.sum(),
+                candidatePlan.getRuleNames(), diffs);
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void compileCandidate() {
+        RuleExecutionPlan compiled = RuleExecutionPlan.compile(rules,
+                primaryConfiguration.overriddenBy(candidateConfiguration), ruleSetVersion);
+        this.candidatePlan = compiled;
+        log.info("Shadow candidate rule set applied; {} active rules: {}", compiled.size(), compiled.getRuleNames());
+    }
+
+    private void compare(ValidationDetails primary, RuleExecutionPlan plan,
+                         Function<RuleExecutionPlan, ValidationDetails> evaluation) {
+        ValidationDetails candidate;
+        try {
+            candidate = evaluation.apply(plan);
+        } catch (RuntimeException e) {
+            errors.increment();
+            log.warn("Shadow evaluation failed", e);
+            return;
+        }
+
+        List<ShadowFailure> primaryFailures = failures(primary.failedRules());
+        List<ShadowFailure> candidateFailures = failures(candidate.failedRules());
+        if (primary.status() == candidate.status()
+                && new HashSet<>(primaryFailures).equals(new HashSet<>(candidateFailures))
+                && ruleNames(primary.passedRules()).equals(ruleNames(candidate.passedRules()))) {
+            matched.increment();
+            return;
+        }
+
+        mismatched.increment();
+        if (maxDiffs == 0) {
+            return;
+        }
+        ShadowDiff diff = new ShadowDiff(primary.status(), candidate.status(), primaryFailures, candidateFailures);
+        synchronized (recentDiffs) {
+            if (recentDiffs.size() == maxDiffs) {
+                recentDiffs.removeFirst();
+            }
+            recentDiffs.addLast(diff);
+        }
+    }
+
+    private static List<ShadowFailure> failures(List<RuleResult> failedRules) {
+        return failedRules != null ? failedRules.stream().map(ShadowFailure::of).toList() : List.of();
+    }
+
+    private static Set<String> ruleNames(List<RuleResult> results) {
+        Set<String> names = new HashSet<>();
+        if (results != null) {
+            results.forEach(result -> names.add(result.ruleName()));
+        }
+        return names;
+    }
+}
@@ -0,0 +1,108 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.config.BinaryContentConfig;
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+
+/**
+ * Validates a stream of applications read incrementally with Jackson's streaming parser and writes one
+ * {@link ValidationDetails} per application, in input order, as each becomes ready. Applications arrive as
+ * newline-delimited JSON or as a sequence of CBOR or Smile values, and results may be written in any of the
+ * three. Only the in-flight window of {@link ApplicationValidationService#validateStreaming} is held in memory.
+ */
+@Service
+public class StreamingValidationService {
+
+    private static final int NEWLINE = '\n';
+
+    private final ApplicationValidationService validationService;
+    private final List<StreamFormat> formats;
+
+    public StreamingValidationService(ApplicationValidationService validationService, ObjectMapper objectMapper) {
+        this.validationService = validationService;
+        this.formats = List.of(
+                StreamFormat.of(MediaType.APPLICATION_NDJSON, objectMapper, true),
+                StreamFormat.of(MediaType.APPLICATION_CBOR, CBORMapper.builder().build(), false),
+                StreamFormat.of(BinaryContentConfig.APPLICATION_SMILE, SmileMapper.builder().build(), false));
+    }
+
+    /**
+     * The first supported type named in {@code acceptedTypes}, or the request's own type when the caller
+     * names none.
+     */
+    public MediaType responseType(MediaType requestType, List<MediaType> acceptedTypes) {
+        for (MediaType accepted : acceptedTypes) {
+            if (accepted.isWildcardType() || accepted.isWildcardSubtype()) {
+                continue;
+            }
+            for (StreamFormat format : formats) {
+                if (format.mediaType().isCompatibleWith(accepted)) {
+                    return format.mediaType();
+                }
+            }
+        }
+        return formatFor(requestType).mediaType();
+    }
+
+    public long validate(InputStream input, MediaType inputType, OutputStream output, MediaType outputType,
+                         String ruleSetVersion) throws IOException {
+        StreamFormat inputFormat = formatFor(inputType);
+        StreamFormat outputFormat = formatFor(outputType);
+        try (MappingIterator<Application> applications = inputFormat.reader().readValues(input)) {
+            if (outputFormat.lineDelimited()) {
+                return validationService.validateStreaming(applications, ruleSetVersion,
+                        details -> writeLine(output, outputFormat.writer(), details));
+            }
+            // one generator for the whole response, so Smile writes a single header and shares names across values
+            try (SequenceWriter results = outputFormat.writer().writeValues(output)) {
+                return validationService.validateStreaming(applications, ruleSetVersion, results::write);
+            }
+        } finally {
+            output.flush();
+        }
+    }
+
+    private StreamFormat formatFor(MediaType mediaType) {
+        for (StreamFormat format : formats) {
+            if (format.mediaType().isCompatibleWith(mediaType)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported stream media type: " + mediaType);
+    }
+
+    private static void writeLine(OutputStream output, ObjectWriter writer, ValidationDetails details) {
+        try {
+            output.write(writer.writeValueAsBytes(details));
+            output.write(NEWLINE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record StreamFormat(MediaType mediaType, ObjectReader reader, ObjectWriter writer,
+                                boolean lineDelimited) {
+
+        static StreamFormat of(MediaType mediaType, ObjectMapper mapper, boolean lineDelimited) {
+            return new StreamFormat(mediaType, mapper.readerFor(Application.class),
+                    mapper.writerFor(ValidationDetails.class).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE),
+                    lineDelimited);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.gdit.technicalassessment.service;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class UnknownRuleSetVersionException extends IllegalArgumentException {
+
+    public UnknownRuleSetVersionException(String ruleSetVersion) {
+        super("Unknown rule-set version: " + ruleSetVersion);
+    }
+}
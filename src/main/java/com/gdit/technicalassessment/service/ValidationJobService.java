@@ -0,0 +1,460 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.logging.PiiMasking;
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationJobState;
+import com.gdit.technicalassessment.model.ValidationJobStatus;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectReader;
+import tools.jackson.databind.ObjectWriter;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs newline-delimited JSON files of applications as background jobs on a bounded executor, each through
+ * {@link ApplicationValidationService#validateStreaming}, writing one result line per application to a results
+ * file. Job metadata is checkpointed to a state file in the job directory; jobs that were queued or running when
+ * the process stopped are restarted from the beginning of their input on the next start. Failure messages in the
+ * results are rendered in the locale of the submitting request, which is kept with the job.
+ */
+@Slf4j
+public class ValidationJobService {
+
+    static final String STATE_FILE = "jobs.json";
+    private static final long CHECKPOINT_INTERVAL_MILLIS = 1000;
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+    private static final int NEWLINE = '\n';
+
+    private final ApplicationValidationService validationService;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader applicationReader;
+    private final ObjectWriter detailsWriter;
+    private final Path directory;
+    private final Path inputDirectory;
+    private final Duration retention;
+    private final ExecutorService executor;
+    private final Clock clock;
+    private final Map<String, Job> jobs = new ConcurrentHashMap<>();
+    private volatile boolean stopping;
+
+    public ValidationJobService(ApplicationValidationService validationService, ObjectMapper objectMapper,
+                                Path directory, Path inputDirectory, Duration retention, ExecutorService executor,
+                                Clock clock) {
+        this.validationService = validationService;
+        this.objectMapper = objectMapper;
+        this.applicationReader = objectMapper.readerFor(Application.class);
+        this.detailsWriter = objectMapper.writerFor(ValidationDetails.class);
+        this.directory = directory.toAbsolutePath().normalize();
+        this.inputDirectory = inputDirectory != null ? inputDirectory.toAbsolutePath().normalize() : null;
+        this.retention = retention;
+        this.executor = executor;
+        this.clock = clock;
+    }
+
+    public void start() throws IOException {
+        Files.createDirectories(directory);
+        Path stateFile = directory.resolve(STATE_FILE);
+        if (Files.exists(stateFile)) {
+            List<StoredJob> stored = objectMapper.readerForListOf(StoredJob.class)
+                    .readValue(Files.readAllBytes(stateFile));
+            int restarted = 0;
+            for (StoredJob storedJob : stored) {
+                Job job = Job.restore(storedJob);
+                jobs.put(job.id, job);
+                if (!job.state.isFinished()) {
+                    job.reset();
+                    try {
+                        schedule(job);
+                        restarted++;
+                    } catch (JobQueueFullException e) {
+                        job.finish(ValidationJobState.FAILED, clock.instant(), "Job queue full at restart");
+                    }
+                }
+            }
+            log.info("Recovered {} validation jobs from {} ({} restarted)", stored.size(), stateFile, restarted);
+        }
+        purgeExpired();
+        persist();
+    }
+
+    /**
+     * Stops reading input and waits for running jobs to checkpoint. Jobs are not interrupted, since an interrupted
+     * read closes the input channel; unfinished jobs stay queued or running in the state file and restart on the
+     * next start.
+     */
+    public void shutdown() throws InterruptedException {
+        stopping = true;
+        executor.shutdown();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            executor.shutdownNow();
+            executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        persist();
+    }
+
+    /**
+     * Stores an uploaded newline-delimited JSON file in the job directory and queues it.
+     */
+    public ValidationJobStatus submit(InputStream upload, String ruleSetVersion) throws IOException {
+        String resolvedVersion = validationService.resolveRuleSetVersion(ruleSetVersion);
+        String id = UUID.randomUUID().toString();
+        Path input = uploadFile(id);
+        Files.copy(upload, input);
+        return enqueue(new Job(id, resolvedVersion, input, clock.instant(), LocaleContextHolder.getLocale()));
+    }
+
+    /**
+     * Queues a newline-delimited JSON file that already exists in the configured input directory.
+     */
+    public ValidationJobStatus submitFile(String fileName, String ruleSetVersion) {
+        if (inputDirectory == null) {
+            throw new InvalidJobInputException("Referencing input files requires validation.jobs.input-directory");
+        }
+        Path input = inputDirectory.resolve(fileName).normalize();
+        if (!input.startsWith(inputDirectory) || !Files.isRegularFile(input)) {
+            throw new InvalidJobInputException("No such input file: " + fileName);
+        }
+        String resolvedVersion = validationService.resolveRuleSetVersion(ruleSetVersion);
+        return enqueue(new Job(UUID.randomUUID().toString(), resolvedVersion, input, clock.instant(),
+                LocaleContextHolder.getLocale()));
+    }
+
+    public Optional<ValidationJobStatus> status(String id) {
+        return Optional.ofNullable(jobs.get(id)).map(job -> job.snapshot(clock.instant()));
+    }
+
+    /**
+     * The results file of a job, which grows while the job runs.
+     */
+    public Optional<Path> results(String id) {
+        return Optional.ofNullable(jobs.get(id))
+                .map(job -> resultsFile(job.id))
+                .filter(Files::exists);
+    }
+
+    /**
+     * Cancels a job. A queued job never starts; a running job stops reading input and keeps the results
+     * written so far.
+     */
+    public Optional<ValidationJobStatus> cancel(String id) {
+        Job job = jobs.get(id);
+        if (job == null) {
+            return Optional.empty();
+        }
+        job.cancelRequested = true;
+        Future<?> future = job.future;
+        if (job.state == ValidationJobState.QUEUED && future != null && future.cancel(false)) {
+            job.finish(ValidationJobState.CANCELLED, clock.instant(), null);
+            persist();
+        }
+        log.info("Cancellation requested for validation job {}", id);
+        return Optional.of(job.snapshot(clock.instant()));
+    }
+
+    private ValidationJobStatus enqueue(Job job) {
+        purgeExpired();
+        jobs.put(job.id, job);
+        try {
+            schedule(job);
+        } catch (JobQueueFullException e) {
+            jobs.remove(job.id);
+            deleteQuietly(uploadFile(job.id));
+            throw e;
+        }
+        persist();
+        log.info("Queued validation job {} for {} (rule set: {})", job.id, job.input.getFileName(),
+                job.ruleSetVersion);
+        return job.snapshot(clock.instant());
+    }
+
+    private void schedule(Job job) {
+        try {
+            job.future = executor.submit(() -> run(job));
+        } catch (RejectedExecutionException e) {
+            throw new JobQueueFullException();
+        }
+    }
+
+    private void run(Job job) {
+        if (stopping) {
+            return;
+        }
+        if (job.cancelRequested) {
+            job.finish(ValidationJobState.CANCELLED, clock.instant(), null);
+            persist();
+            return;
+        }
+        job.begin(clock.instant());
+        persist();
+
+        LocaleContextHolder.setLocale(job.locale);
+        try (InputStream input = new CountingInputStream(Files.newInputStream(job.input), job);
+             MappingIterator<Application> applications = applicationReader.readValues(input);
+             OutputStream output = new BufferedOutputStream(Files.newOutputStream(resultsFile(job.id)), 1 << 16)) {
+            job.totalBytes = Files.size(job.input);
+            validationService.validateStreaming(whileActive(applications, job), job.ruleSetVersion,
+                    details -> record(job, details, output));
+            output.flush();
+            if (stopping) {
+                log.info("Validation job {} interrupted by shutdown after {} applications", job.id, job.processed);
+                return;
+            }
+            job.finish(job.cancelRequested ? ValidationJobState.CANCELLED : ValidationJobState.COMPLETED,
+                    clock.instant(), null);
+            log.info("Validation job {} {} after {} applications ({} valid, {} invalid)", job.id, job.state,
+                    job.processed, job.valid, job.invalid);
+        } catch (IOException | RuntimeException e) {
+            if (stopping) {
+                log.info("Validation job {} stopped by shutdown after {} applications", job.id, job.processed, e);
+                return;
+            }
+            log.warn("Validation job {} failed after {} applications: {}", job.id, job.processed,
+                    PiiMasking.appendText(new StringBuilder(e.getClass().getName()).append(": "), e.getMessage()));
+            job.finish(ValidationJobState.FAILED, clock.instant(), e.getClass().getSimpleName());
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+            persist();
+        }
+    }
+
+    private Iterator<Application> whileActive(Iterator<Application> applications, Job job) {
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return !job.cancelRequested && !stopping && applications.hasNext();
+            }
+
+            @Override
+            public Application next() {
+                return applications.next();
+            }
+        };
+    }
+
+    private void record(Job job, ValidationDetails details, OutputStream output) {
+        try {
+            output.write(detailsWriter.writeValueAsBytes(details));
+            output.write(NEWLINE);
+            job.count(details.status());
+
+            long now = clock.millis();
+            if (now - job.lastCheckpointMillis >= CHECKPOINT_INTERVAL_MILLIS) {
+                job.lastCheckpointMillis = now;
+                output.flush();
+                persist();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void purgeExpired() {
+        Instant cutoff = clock.instant().minus(retention);
+        jobs.values().removeIf(job -> {
+            if (!job.state.isFinished() || job.finishedAt == null || job.finishedAt.isAfter(cutoff)) {
+                return false;
+            }
+            deleteQuietly(resultsFile(job.id));
+            deleteQuietly(uploadFile(job.id));
+            return true;
+        });
+    }
+
+    private synchronized void persist() {
+        Instant now = clock.instant();
+        List<StoredJob> stored = new ArrayList<>(jobs.size());
+        jobs.values().stream()
+                .sorted(Comparator.comparing(job -> job.submittedAt))
+                .forEach(job -> stored.add(new StoredJob(job.snapshot(now), job.input.toString(),
+                        job.locale.toLanguageTag())));
+        try {
+            Path temporary = directory.resolve(STATE_FILE + ".tmp");
+            Files.write(temporary, objectMapper.writeValueAsBytes(stored));
+            Files.move(temporary, directory.resolve(STATE_FILE), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Could not write validation job state to {}", directory, e);
+        }
+    }
+
+    private Path uploadFile(String id) {
+        return directory.resolve(id + ".input.ndjson");
+    }
+
+    private Path resultsFile(String id) {
+        return directory.resolve(id + ".results.ndjson");
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete {}", file, e);
+        }
+    }
+
+    record StoredJob(ValidationJobStatus status, String input, String locale) {
+    }
+
+    /** Mutable state of one job; counters are only written by the thread running it. */
+    private static final class Job {
+
+        final String id;
+        final String ruleSetVersion;
+        final Path input;
+        final Instant submittedAt;
+        final Locale locale;
+        volatile ValidationJobState state = ValidationJobState.QUEUED;
+        volatile Instant startedAt;
+        volatile Instant finishedAt;
+        volatile long processed;
+        volatile long valid;
+        volatile long invalid;
+        volatile long bytesRead;
+        volatile long totalBytes;
+        volatile String error;
+        volatile boolean cancelRequested;
+        volatile Future<?> future;
+        long lastCheckpointMillis;
+
+        Job(String id, String ruleSetVersion, Path input, Instant submittedAt, Locale locale) {
+            this.id = id;
+            this.ruleSetVersion = ruleSetVersion;
+            this.input = input;
+            this.submittedAt = submittedAt;
+            this.locale = locale;
+        }
+
+        static Job restore(StoredJob stored) {
+            ValidationJobStatus status = stored.status();
+            Locale locale = stored.locale() != null
+                    ? Locale.forLanguageTag(stored.locale())
+                    : LocaleContextHolder.getLocale();
+            Job job = new Job(status.id(), status.ruleSetVersion(), Path.of(stored.input()), status.submittedAt(),
+                    locale);
+            job.state = status.state();
+            job.startedAt = status.startedAt();
+            job.finishedAt = status.finishedAt();
+            job.processed = status.processed();
+            job.valid = status.valid();
+            job.invalid = status.invalid();
+            job.bytesRead = status.bytesRead();
+            job.totalBytes = status.totalBytes();
+            job.error = status.error();
+            return job;
+        }
+
+        void reset() {
+            state = ValidationJobState.QUEUED;
+            startedAt = null;
+            processed = 0;
+            valid = 0;
+            invalid = 0;
+            bytesRead = 0;
+        }
+
+        void begin(Instant now) {
+            startedAt = now;
+            lastCheckpointMillis = now.toEpochMilli();
+            state = ValidationJobState.RUNNING;
+        }
+
+        void count(ValidationStatus status) {
+            if (status == ValidationStatus.VALID) {
+                valid++;
+            } else {
+                invalid++;
+            }
+            processed++;
+        }
+
+        void finish(ValidationJobState finalState, Instant now, String failure) {
+            finishedAt = now;
+            error = failure;
+            state = finalState;
+        }
+
+        ValidationJobStatus snapshot(Instant now) {
+            Instant estimatedCompletion = null;
+            long read = bytesRead;
+            long total = totalBytes;
+            if (state == ValidationJobState.RUNNING && read > 0 && total > read) {
+                long elapsedMillis = Duration.between(startedAt, now).toMillis();
+                estimatedCompletion = now.plusMillis((long) (elapsedMillis * ((double) (total - read) / read)));
+            }
+            return ValidationJobStatus.builder()
+                    .id(id)
+                    .state(state)
+                    .ruleSetVersion(ruleSetVersion)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .processed(processed)
+                    .valid(valid)
+                    .invalid(invalid)
+                    .bytesRead(read)
+                    .totalBytes(total)
+                    .estimatedCompletion(estimatedCompletion)
+                    .error(error)
+                    .build();
+        }
+    }
+
+    /** Tracks how far the parser has read into the input, which drives the completion estimate. */
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private final Job job;
+
+        CountingInputStream(InputStream in, Job job) {
+            super(in);
+            this.job = job;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                job.bytesRead++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int count = super.read(buffer, offset, length);
+            if (count > 0) {
+                job.bytesRead += count;
+            }
+            return count;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.Household;
+import com.gdit.technicalassessment.model.Income;
+import com.gdit.technicalassessment.model.SpouseInfo;
+import com.gdit.technicalassessment.model.StudentInfo;
+import com.gdit.technicalassessment.model.ValidationCacheStats;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.validation.engine.RuleExecutionPlan;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded cache of validation results keyed by a content hash of the application and the rule-set version.
+ * Each stripe is a segmented LRU: new entries start in a probation segment and move to the protected segment
+ * when hit again, so a burst of one-off submissions cannot evict applications that keep being resubmitted.
+ * Entries only match the rule plan and validation date they were computed for; one left behind by a
+ * recompiled plan or an earlier date is dropped when it is next looked up, so several live rule-set versions
+ * share the cache without invalidating each other.
+ */
+public class ValidationResultCache {
+
+    private static final double PROTECTED_RATIO = 0.8;
+
+    private final Segment[] segments;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public ValidationResultCache(int maximumSize, Duration ttl, int segmentCount, Clock clock) {
+        int stripes = Math.max(1, Math.min(segmentCount, maximumSize));
+        int capacityPerSegment = Math.max(2, (maximumSize + stripes - 1) / stripes);
+        this.segments = new Segment[stripes];
+        for (int i = 0; i < stripes; i++) {
+            segments[i] = new Segment(capacityPerSegment);
+        }
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    public ValidationDetails get(Application application, RuleExecutionPlan plan, LocalDate asOfDate) {
+        long key = keyOf(application, plan);
+        Segment segment = segmentFor(key);
+        Entry entry = segment.get(key);
+
+        if (entry == null || !entry.application.equals(application)) {
+            misses.increment();
+            return null;
+        }
+
+        if (entry.plan != plan || !entry.asOfDate.equals(asOfDate) || entry.expiresAtMillis <= clock.millis()) {
+            segment.remove(key, entry);
+            misses.increment();
+            return null;
+        }
+
+        hits.increment();
+        return entry.result;
+    }
+
+    public void put(Application application, RuleExecutionPlan plan, LocalDate asOfDate, ValidationDetails result) {
+        long key = keyOf(application, plan);
+        Entry entry = new Entry(application, result, plan, asOfDate, clock.millis() + ttlMillis);
+        segmentFor(key).put(key, entry);
+    }
+
+    public void clear() {
+        for (Segment segment : segments) {
+            segment.clear();
+        }
+    }
+
+    public ValidationCacheStats stats() {
+        int size = 0;
+        for (Segment segment : segments) {
+            size += segment.size();
+        }
+        return new ValidationCacheStats(hits.sum(), misses.sum(), evictions.sum(), size);
+    }
+
+    private static long keyOf(Application application, RuleExecutionPlan plan) {
+        return mix(fingerprint(application), hashOf(plan.ruleSetVersion()));
+    }
+
+    private Segment segmentFor(long key) {
+        return segments[(int) ((key ^ (key >>> 32)) & 0x7fffffff) % segments.length];
+    }
+
+    static long fingerprint(Application application) {
+        long hash = 0xcbf29ce484222325L;
+
+        StudentInfo studentInfo = application.studentInfo();
+        if (studentInfo == null) {
+            hash = mix(hash, -1);
+        } else {
+            hash = mix(hash, hashOf(studentInfo.firstName()));
+            hash = mix(hash, hashOf(studentInfo.lastName()));
+            hash = mix(hash, hashOf(studentInfo.ssn()));
+            hash = mix(hash, studentInfo.dateOfBirth() == null ? Long.MIN_VALUE : studentInfo.dateOfBirth().toEpochDay());
+        }
+
+        hash = mix(hash, application.dependencyStatus() == null ? -1 : application.dependencyStatus().ordinal());
+        hash = mix(hash, application.maritalStatus() == null ? -1 : application.maritalStatus().ordinal());
+
+        SpouseInfo spouseInfo = application.spouseInfo();
+        if (spouseInfo == null) {
+            hash = mix(hash, -1);
+        } else {
+            hash = mix(hash, hashOf(spouseInfo.firstName()));
+            hash = mix(hash, hashOf(spouseInfo.lastName()));
+            hash = mix(hash, hashOf(spouseInfo.ssn()));
+        }
+
+        Household household = application.household();
+        hash = household == null
+                ? mix(hash, -1)
+                : mix(mix(hash, hashOf(household.numberInHousehold())), hashOf(household.numberInCollege()));
+
+        Income income = application.income();
+        hash = income == null
+                ? mix(hash, -1)
+                : mix(mix(hash, hashOf(income.studentIncome())), hashOf(income.parentIncome()));
+
+        return mix(hash, hashOf(application.stateOfResidence()));
+    }
+
+    private static long hashOf(Object value) {
+        return value == null ? Long.MIN_VALUE : value.hashCode();
+    }
+
+    private static long mix(long hash, long value) {
+        hash = (hash ^ value) * 0x9e3779b97f4a7c15L;
+        return hash ^ (hash >>> 29);
+    }
+
+    private record Entry(Application application, ValidationDetails result, RuleExecutionPlan plan,
+                         LocalDate asOfDate, long expiresAtMillis) {
+    }
+
+    private final class Segment {
+
+        private final LinkedHashMap<Long, Entry> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<Long, Entry> protectedEntries = new LinkedHashMap<>(16, 0.75f, true);
+        private final int probationCapacity;
+        private final int protectedCapacity;
+
+        private Segment(int capacity) {
+            this.protectedCapacity = Math.max(1, (int) (capacity * PROTECTED_RATIO));
+            this.probationCapacity = Math.max(1, capacity - protectedCapacity);
+        }
+
+        synchronized Entry get(long key) {
+            Entry entry = protectedEntries.get(key);
+            if (entry != null) {
+                return entry;
+            }
+
+            entry = probation.remove(key);
+            if (entry != null) {
+                protectedEntries.put(key, entry);
+                demoteOverflow();
+            }
+            return entry;
+        }
+
+        synchronized void put(long key, Entry entry) {
+            if (protectedEntries.containsKey(key)) {
+                protectedEntries.put(key, entry);
+                return;
+            }
+            probation.put(key, entry);
+            evictOverflow();
+        }
+
+        synchronized void remove(long key, Entry entry) {
+            if (!protectedEntries.remove(key, entry)) {
+                probation.remove(key, entry);
+            }
+        }
+
+        synchronized void clear() {
+            probation.clear();
+            protectedEntries.clear();
+        }
+
+        synchronized int size() {
+            return probation.size() + protectedEntries.size();
+        }
+
+        private void demoteOverflow() {
+            while (protectedEntries.size() > protectedCapacity) {
+                Iterator<Map.Entry<Long, Entry>> eldest = protectedEntries.entrySet().iterator();
+                Map.Entry<Long, Entry> demoted = eldest.next();
+                eldest.remove();
+                probation.put(demoted.getKey(), demoted.getValue());
+            }
+            evictOverflow();
+        }
+
+        private void evictOverflow() {
+            while (probation.size() > probationCapacity) {
+                Iterator<Map.Entry<Long, Entry>> eldest = probation.entrySet().iterator();
+                eldest.next();
+                eldest.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.validation.util.SsnValidator;
+
+import java.time.LocalDate;
+import java.time.Period;
+
+/**
+ * Values derived from an {@link Application} once per validation and shared by every rule,
+ * so normalisation such as SSN cleaning and age calculation is not repeated.
+ */
+public record ApplicationFacts(
+        Application application,
+        LocalDate asOfDate,
+        boolean hasStudentSsn,
+        boolean studentSsnValid,
+        long studentSsn,
+        boolean hasDateOfBirth,
+        boolean dateOfBirthInFuture,
+        long dateOfBirthEpochDay,
+        boolean hasSpouseSsn,
+        boolean spouseSsnValid,
+        long spouseSsn,
+        boolean hasStateOfResidence
+) {
+
+    public static ApplicationFacts of(Application application, LocalDate asOfDate) {
+        String studentSsn = application.studentInfo() != null ? application.studentInfo().ssn() : null;
+        LocalDate dateOfBirth = application.studentInfo() != null ? application.studentInfo().dateOfBirth() : null;
+        String spouseSsn = application.spouseInfo() != null ? application.spouseInfo().ssn() : null;
+        String stateCode = application.stateOfResidence();
+
+        long studentSsnDigits = SsnValidator.parseSsn(studentSsn);
+        long spouseSsnDigits = SsnValidator.parseSsn(spouseSsn);
+        boolean dateOfBirthInFuture = dateOfBirth != null && dateOfBirth.isAfter(asOfDate);
+
+        return new ApplicationFacts(
+                application,
+                asOfDate,
+                studentSsn != null,
+                studentSsnDigits >= 0,
+                studentSsnDigits,
+                dateOfBirth != null,
+                dateOfBirthInFuture,
+                dateOfBirth != null ? dateOfBirth.toEpochDay() : Long.MIN_VALUE,
+                spouseSsn != null && !spouseSsn.isEmpty(),
+                spouseSsnDigits >= 0,
+                spouseSsnDigits,
+                stateCode != null && !stateCode.isEmpty());
+    }
+
+    /**
+     * Whole years between the date of birth and the as-of date; computed on demand since rules compare
+     * {@link #dateOfBirthEpochDay()} against a precomputed cutoff instead.
+     */
+    public int studentAge() {
+        if (!hasDateOfBirth || dateOfBirthInFuture) {
+            return 0;
+        }
+        return Period.between(LocalDate.ofEpochDay(dateOfBirthEpochDay), asOfDate).getYears();
+    }
+}
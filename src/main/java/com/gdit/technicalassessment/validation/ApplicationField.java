@@ -0,0 +1,34 @@
+package com.gdit.technicalassessment.validation;
+
+public enum ApplicationField {
+    STUDENT_INFO("studentInfo"),
+    DEPENDENCY_STATUS("dependencyStatus"),
+    MARITAL_STATUS("maritalStatus"),
+    SPOUSE_INFO("spouseInfo"),
+    HOUSEHOLD("household"),
+    INCOME("income"),
+    STATE_OF_RESIDENCE("stateOfResidence");
+
+    private final String value;
+
+    ApplicationField(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public static ApplicationField fromString(String value) {
+        if (value != null) {
+            for (ApplicationField field : ApplicationField.values()) {
+                if (field.value.equalsIgnoreCase(value.trim()) || field.name().equalsIgnoreCase(value.trim())) {
+                    return field;
+                }
+            }
+        }
+        throw new IllegalArgumentException("Invalid application field: " + value +
+                ". Valid values are: studentInfo, dependencyStatus, maritalStatus, spouseInfo, household, income, " +
+                "stateOfResidence");
+    }
+}
@@ -0,0 +1,46 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.DependencyStatus;
+import com.gdit.technicalassessment.model.MaritalStatus;
+
+/**
+ * The discriminating fields of an application that rule applicability can depend on. Every
+ * combination maps to a small integer key so applicability can be resolved by table lookup.
+ */
+public record ApplicationProfile(
+        DependencyStatus dependencyStatus,
+        MaritalStatus maritalStatus,
+        boolean hasSpouseInfo
+) {
+
+    private static final DependencyStatus[] DEPENDENCY_STATUSES = DependencyStatus.values();
+    private static final MaritalStatus[] MARITAL_STATUSES = MaritalStatus.values();
+
+    public static final int KEY_COUNT = (DEPENDENCY_STATUSES.length + 1) * (MARITAL_STATUSES.length + 1) * 2;
+
+    public static int keyOf(Application application) {
+        return keyOf(application.dependencyStatus(), application.maritalStatus(), application.spouseInfo() != null);
+    }
+
+    public static ApplicationProfile fromKey(int key) {
+        boolean hasSpouseInfo = (key & 1) == 1;
+        int statuses = key >> 1;
+        int maritalOrdinal = statuses % (MARITAL_STATUSES.length + 1);
+        int dependencyOrdinal = statuses / (MARITAL_STATUSES.length + 1);
+        return new ApplicationProfile(
+                dependencyOrdinal == 0 ? null : DEPENDENCY_STATUSES[dependencyOrdinal - 1],
+                maritalOrdinal == 0 ? null : MARITAL_STATUSES[maritalOrdinal - 1],
+                hasSpouseInfo);
+    }
+
+    public int key() {
+        return keyOf(dependencyStatus, maritalStatus, hasSpouseInfo);
+    }
+
+    private static int keyOf(DependencyStatus dependencyStatus, MaritalStatus maritalStatus, boolean hasSpouseInfo) {
+        int dependencyOrdinal = dependencyStatus == null ? 0 : dependencyStatus.ordinal() + 1;
+        int maritalOrdinal = maritalStatus == null ? 0 : maritalStatus.ordinal() + 1;
+        return ((dependencyOrdinal * (MARITAL_STATUSES.length + 1) + maritalOrdinal) << 1) | (hasSpouseInfo ? 1 : 0);
+    }
+}
@@ -0,0 +1,97 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.model.RuleMessageTemplate;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+
+import java.util.Arrays;
+
+/**
+ * Records only which rules failed, as bits indexed by rule id, plus the codes of {@link RuleMessage} failure
+ * messages. Passing results and message arguments are dropped, so nothing is allocated per rule.
+ * The id of the rule being evaluated is set with {@link #begin(int)}.
+ */
+public class CompactResultCollector implements RuleResultSink {
+
+    private static final int[] NO_CODES = new int[0];
+
+    private final long[] failedRules;
+    private int[] messageCodes = NO_CODES;
+    private int messageCount;
+    private int currentRuleId;
+    private boolean failed;
+
+    public CompactResultCollector(int maxRuleId) {
+        this.failedRules = new long[(maxRuleId >>> 6) + 1];
+    }
+
+    public void begin(int ruleId) {
+        this.currentRuleId = ruleId;
+    }
+
+    @Override
+    public void pass(String ruleName) {
+        // passing rules are implied by the absence of a failure bit
+    }
+
+    @Override
+    public void fail(String ruleName, String message) {
+        markFailed();
+    }
+
+    @Override
+    public void fail(String ruleName, RuleMessageTemplate message, Object... arguments) {
+        markFailed();
+        if (message instanceof RuleMessage ruleMessage) {
+            addCode(ruleMessage.code());
+        }
+    }
+
+    public void addAll(ValidationDetails details) {
+        if (details.failedRules() == null) {
+            return;
+        }
+        for (RuleResult result : details.failedRules()) {
+            add(result);
+        }
+    }
+
+    public void add(RuleResult failure) {
+        markFailed();
+        if (failure.template() instanceof RuleMessage ruleMessage) {
+            addCode(ruleMessage.code());
+        }
+    }
+
+    public boolean hasFailures() {
+        return failed;
+    }
+
+    public CompactValidationDetails toDetails() {
+        if (!failed) {
+            return CompactValidationDetails.VALID;
+        }
+        int words = failedRules.length;
+        while (failedRules[words - 1] == 0) {
+            words--;
+        }
+        int[] codes = Arrays.copyOf(messageCodes, messageCount);
+        Arrays.sort(codes);
+        return new CompactValidationDetails(ValidationStatus.INVALID, Arrays.copyOf(failedRules, words), codes);
+    }
+
+    private void markFailed() {
+        failedRules[currentRuleId >>> 6] |= 1L << currentRuleId;
+        failed = true;
+    }
+
+    private void addCode(int code) {
+        if (messageCount == messageCodes.length) {
+            messageCodes = Arrays.copyOf(messageCodes, Math.max(4, messageCount * 2));
+        }
+        messageCodes[messageCount++] = code;
+    }
+}
@@ -0,0 +1,31 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+
+import java.time.LocalDate;
+
+public interface FactsValidationRule extends ValidationRule {
+
+    void validate(ApplicationFacts facts, RuleResultSink sink);
+
+    default ValidationDetails validate(ApplicationFacts facts) {
+        RuleResultCollector collector = new RuleResultCollector(1);
+        validate(facts, collector);
+        return ValidationDetails.builder()
+                .status(collector.hasFailures() ? ValidationStatus.INVALID : ValidationStatus.VALID)
+                .passedRules(collector.passedRules().isEmpty() ? null : collector.passedRules())
+                .failedRules(collector.hasFailures() ? collector.failedRules() : null)
+                .build();
+    }
+
+    /**
+     * Validates one application on its own, as of today in the system time zone. Rules whose outcome depends
+     * on the date override this to use the validation clock.
+     */
+    @Override
+    default ValidationDetails validate(Application application) {
+        return validate(ApplicationFacts.of(application, LocalDate.now()));
+    }
+}
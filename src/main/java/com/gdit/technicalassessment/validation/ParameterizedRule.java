@@ -0,0 +1,9 @@
+package com.gdit.technicalassessment.validation;
+
+public interface ParameterizedRule extends ValidationRule {
+
+    /**
+     * Returns a copy of this rule configured with the given parameters; the receiver is left unchanged.
+     */
+    ValidationRule withParameters(RuleParameters parameters);
+}
@@ -0,0 +1,9 @@
+package com.gdit.technicalassessment.validation;
+
+@FunctionalInterface
+public interface RuleApplicability {
+
+    RuleApplicability ALWAYS = profile -> true;
+
+    boolean appliesTo(ApplicationProfile profile);
+}
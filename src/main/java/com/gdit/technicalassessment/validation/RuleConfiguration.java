@@ -0,0 +1,84 @@
+package com.gdit.technicalassessment.validation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/**
+ * Externally supplied rule activation overrides and parameters, keyed by rule name. Entries take the form
+ * {@code <RULE_NAME>.active=true|false} and {@code <RULE_NAME>.<parameter>=<value>}.
+ */
+public record RuleConfiguration(Map<String, Boolean> activation, Map<String, RuleParameters> parameters) {
+
+    public static final RuleConfiguration DEFAULTS = new RuleConfiguration(Map.of(), Map.of());
+
+    private static final String ACTIVE_KEY = "active";
+
+    public RuleConfiguration {
+        activation = Map.copyOf(activation);
+        parameters = Map.copyOf(parameters);
+    }
+
+    public static RuleConfiguration from(Properties properties) {
+        Map<String, Boolean> activation = new HashMap<>();
+        Map<String, Map<String, String>> parameterValues = new HashMap<>();
+
+        for (String key : properties.stringPropertyNames()) {
+            int separator = key.indexOf('.');
+            if (separator <= 0 || separator == key.length() - 1) {
+                throw new IllegalArgumentException(String.format("Invalid rule configuration key: %s", key));
+            }
+
+            String ruleName = key.substring(0, separator).trim();
+            String setting = key.substring(separator + 1).trim();
+            String value = properties.getProperty(key).trim();
+
+            if (ACTIVE_KEY.equals(setting)) {
+                activation.put(ruleName, parseActive(key, value));
+            } else {
+                parameterValues.computeIfAbsent(ruleName, name -> new HashMap<>()).put(setting, value);
+            }
+        }
+
+        Map<String, RuleParameters> parameters = new HashMap<>();
+        parameterValues.forEach((ruleName, values) -> parameters.put(ruleName, new RuleParameters(values)));
+        return new RuleConfiguration(activation, parameters);
+    }
+
+    /**
+     * This configuration with {@code overrides} applied on top: activation flags are replaced per rule and
+     * parameters per rule and key.
+     */
+    public RuleConfiguration overriddenBy(RuleConfiguration overrides) {
+        Map<String, Boolean> mergedActivation = new HashMap<>(activation);
+        mergedActivation.putAll(overrides.activation());
+
+        Map<String, RuleParameters> mergedParameters = new HashMap<>(parameters);
+        overrides.parameters().forEach((ruleName, values) -> mergedParameters.merge(ruleName, values,
+                (base, override) -> {
+                    Map<String, String> merged = new HashMap<>(base.values());
+                    merged.putAll(override.values());
+                    return new RuleParameters(merged);
+                }));
+        return new RuleConfiguration(mergedActivation, mergedParameters);
+    }
+
+    public boolean isActive(String ruleName, boolean defaultActive) {
+        Boolean active = activation.get(ruleName);
+        return active != null ? active : defaultActive;
+    }
+
+    public RuleParameters parametersFor(String ruleName) {
+        return parameters.getOrDefault(ruleName, RuleParameters.NONE);
+    }
+
+    private static boolean parseActive(String key, String value) {
+        if ("true".equalsIgnoreCase(value)) {
+            return true;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return false;
+        }
+        throw new IllegalArgumentException(String.format("Invalid value for %s: %s", key, value));
+    }
+}
@@ -0,0 +1,60 @@
+package com.gdit.technicalassessment.validation;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+public record RuleParameters(Map<String, String> values) {
+
+    public static final RuleParameters NONE = new RuleParameters(Map.of());
+
+    public RuleParameters {
+        values = Map.copyOf(values);
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public int intValue(String key, int defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        try {
+            return Integer.parseInt(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid integer value for rule parameter %s: %s", key, value), e);
+        }
+    }
+
+    public int intValue(String key, int defaultValue, int minimum, int maximum) {
+        int value = intValue(key, defaultValue);
+        if (value < minimum || value > maximum) {
+            throw new IllegalArgumentException(String.format(
+                    "Rule parameter %s must be between %d and %d: %d", key, minimum, maximum, value));
+        }
+        return value;
+    }
+
+    public <E extends Enum<E>> Set<E> enumValues(String key, Class<E> type, Set<E> defaultValue) {
+        String value = values.get(key);
+        if (value == null) {
+            return defaultValue;
+        }
+
+        Set<E> constants = EnumSet.noneOf(type);
+        for (String name : value.split(",")) {
+            try {
+                constants.add(Enum.valueOf(type, name.trim().toUpperCase(Locale.ROOT)));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        String.format("Invalid value for rule parameter %s: %s", key, value), e);
+            }
+        }
+        return constants;
+    }
+}
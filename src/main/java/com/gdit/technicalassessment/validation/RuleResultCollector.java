@@ -0,0 +1,96 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.RuleMessageTemplate;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Accumulates the results of every rule evaluated for one application into pre-sized lists.
+ * Passing results are the canonical {@link RuleResult#passed(String)} instances. Collectors created by
+ * {@link #failuresOnly()} or {@link #statusOnly()} count what they drop instead of storing it, and their
+ * dropped lists are {@code null}.
+ */
+public class RuleResultCollector implements RuleResultSink {
+
+    private final List<RuleResult> passedRules;
+    private final List<RuleResult> failedRules;
+    private int failureCount;
+
+    public RuleResultCollector(int expectedRules) {
+        this(new ArrayList<>(expectedRules), new ArrayList<>());
+    }
+
+    private RuleResultCollector(List<RuleResult> passedRules, List<RuleResult> failedRules) {
+        this.passedRules = passedRules;
+        this.failedRules = failedRules;
+    }
+
+    public static RuleResultCollector failuresOnly() {
+        return new RuleResultCollector(null, new ArrayList<>());
+    }
+
+    public static RuleResultCollector statusOnly() {
+        return new RuleResultCollector(null, null);
+    }
+
+    @Override
+    public void pass(String ruleName) {
+        if (passedRules != null) {
+            passedRules.add(RuleResult.passed(ruleName));
+        }
+    }
+
+    @Override
+    public void fail(String ruleName, String message) {
+        failureCount++;
+        if (failedRules != null) {
+            failedRules.add(RuleResult.builder()
+                    .ruleName(ruleName)
+                    .message(message)
+                    .build());
+        }
+    }
+
+    @Override
+    public void fail(String ruleName, RuleMessageTemplate message, Object... arguments) {
+        failureCount++;
+        if (failedRules != null) {
+            failedRules.add(RuleResult.failed(ruleName, message, arguments));
+        }
+    }
+
+    public void addAll(ValidationDetails details) {
+        addAll(details.passedRules(), details.failedRules());
+    }
+
+    public void addAll(List<RuleResult> passed, List<RuleResult> failed) {
+        if (passed != null && passedRules != null) {
+            passedRules.addAll(passed);
+        }
+        if (failed != null) {
+            failureCount += failed.size();
+            if (failedRules != null) {
+                failedRules.addAll(failed);
+            }
+        }
+    }
+
+    public List<RuleResult> passedRules() {
+        return passedRules;
+    }
+
+    public List<RuleResult> failedRules() {
+        return failedRules;
+    }
+
+    public int failureCount() {
+        return failureCount;
+    }
+
+    public boolean hasFailures() {
+        return failureCount > 0;
+    }
+}
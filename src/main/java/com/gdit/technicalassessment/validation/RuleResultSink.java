@@ -0,0 +1,24 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.RuleMessageTemplate;
+
+import java.util.Locale;
+
+/**
+ * Receives rule outcomes as they are produced, so rules do not build an intermediate
+ * {@link com.gdit.technicalassessment.model.ValidationDetails} per evaluation.
+ */
+public interface RuleResultSink {
+
+    void pass(String ruleName);
+
+    void fail(String ruleName, String message);
+
+    /**
+     * Records a failure whose message is rendered from {@code message} only when it is read.
+     * Sinks that do not keep results render it immediately.
+     */
+    default void fail(String ruleName, RuleMessageTemplate message, Object... arguments) {
+        fail(ruleName, message.render(Locale.ROOT, arguments));
+    }
+}
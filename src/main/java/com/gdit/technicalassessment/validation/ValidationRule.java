@@ -3,11 +3,39 @@ package com.gdit.technicalassessment.validation;
 import com.gdit.technicalassessment.model.Application;
 import com.gdit.technicalassessment.model.ValidationDetails;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public interface ValidationRule {
 
+    /** Returned by {@link #getRuleId()} for rules without a stable id; the execution plan numbers them. */
+    int UNASSIGNED_RULE_ID = 0;
+
     String getRuleName();
 
+    /**
+     * Stable, positive numeric id of this rule, used as its bit in compact results. Ids must never be reused.
+     */
+    default int getRuleId() {
+        return UNASSIGNED_RULE_ID;
+    }
+
     boolean isActive();
 
     ValidationDetails validate(Application application);
+
+    default RuleApplicability getApplicability() {
+        return RuleApplicability.ALWAYS;
+    }
+
+    default Set<ApplicationField> getReadFields() {
+        return EnumSet.allOf(ApplicationField.class);
+    }
+
+    /**
+     * Rule-set versions (award years such as {@code 2026-27}) this rule belongs to; empty means every version.
+     */
+    default Set<String> getRuleSetVersions() {
+        return Set.of();
+    }
 }
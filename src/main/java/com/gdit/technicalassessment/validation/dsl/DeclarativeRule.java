@@ -0,0 +1,90 @@
+package com.gdit.technicalassessment.validation.dsl;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleResultSink;
+
+import java.lang.invoke.MethodHandle;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Rule defined in a rule definitions file rather than in Java. It passes when its {@code when} condition does
+ * not hold or its {@code assert} condition does, and otherwise fails with its message.
+ */
+public final class DeclarativeRule implements FactsValidationRule {
+
+    private final String ruleName;
+    private final int ruleId;
+    private final boolean active;
+    private final Set<ApplicationField> readFields;
+    private final MethodHandle condition;
+    private final MethodHandle assertion;
+    private final MessageTemplate message;
+
+    private DeclarativeRule(String ruleName, int ruleId, boolean active, Set<ApplicationField> readFields,
+                            MethodHandle condition, MethodHandle assertion, MessageTemplate message) {
+        this.ruleName = ruleName;
+        this.ruleId = ruleId;
+        this.active = active;
+        this.readFields = readFields;
+        this.condition = condition;
+        this.assertion = assertion;
+        this.message = message;
+    }
+
+    public static DeclarativeRule compile(String ruleName, boolean active, String when, String assertion,
+                                          String message) {
+        return compile(ruleName, UNASSIGNED_RULE_ID, active, when, assertion, message);
+    }
+
+    public static DeclarativeRule compile(String ruleName, int ruleId, boolean active, String when,
+                                          String assertion, String message) {
+        Set<ApplicationField> readFields = EnumSet.noneOf(ApplicationField.class);
+        MethodHandle compiledCondition = when == null || when.isBlank()
+                ? null
+                : RuleExpressionCompiler.compileCondition(when, readFields);
+        MethodHandle compiledAssertion = RuleExpressionCompiler.compileCondition(assertion, readFields);
+        MessageTemplate compiledMessage = MessageTemplate.compile(message, readFields);
+        return new DeclarativeRule(ruleName, ruleId, active, Set.copyOf(readFields), compiledCondition, compiledAssertion,
+                compiledMessage);
+    }
+
+    @Override
+    public String getRuleName() {
+        return ruleName;
+    }
+
+    @Override
+    public int getRuleId() {
+        return ruleId;
+    }
+
+    @Override
+    public boolean isActive() {
+        return active;
+    }
+
+    @Override
+    public Set<ApplicationField> getReadFields() {
+        return readFields;
+    }
+
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        Application application = facts.application();
+        try {
+            if ((condition == null || (boolean) condition.invokeExact(application))
+                    && !(boolean) assertion.invokeExact(application)) {
+                sink.fail(ruleName, message, message.arguments(application));
+                return;
+            }
+        } catch (Throwable e) {
+            throw new IllegalStateException("Declarative rule " + ruleName + " failed to evaluate", e);
+        }
+
+        sink.pass(ruleName);
+    }
+}
@@ -0,0 +1,112 @@
+package com.gdit.technicalassessment.validation.dsl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads rule definitions of the form {@code <RULE_NAME>.assert}, {@code .message} and {@code .id} and the optional
+ * {@code .when} and {@code .active} entries, and compiles each into a {@link DeclarativeRule}. The id is required
+ * so a rule keeps its bit in compact results when other definitions are added or renamed.
+ */
+@Slf4j
+public final class DeclarativeRuleLoader {
+
+    private static final String ASSERT_KEY = "assert";
+    private static final String MESSAGE_KEY = "message";
+    private static final String WHEN_KEY = "when";
+    private static final String ACTIVE_KEY = "active";
+    private static final String ID_KEY = "id";
+
+    private DeclarativeRuleLoader() {
+        throw new IllegalStateException("Utility class");
+    }
+
+    public static List<DeclarativeRule> load(Path definitionsFile) throws IOException {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(definitionsFile)) {
+            properties.load(reader);
+        }
+        List<DeclarativeRule> rules = load(properties);
+        log.info("Loaded {} declarative rules from {}", rules.size(), definitionsFile);
+        return rules;
+    }
+
+    public static List<DeclarativeRule> load(Properties properties) {
+        Map<String, Map<String, String>> definitions = new TreeMap<>();
+        for (String key : properties.stringPropertyNames()) {
+            int separator = key.lastIndexOf('.');
+            if (separator <= 0 || separator == key.length() - 1) {
+                throw new IllegalArgumentException(String.format("Invalid rule definition key: %s", key));
+            }
+            definitions.computeIfAbsent(key.substring(0, separator).trim(), name -> new TreeMap<>())
+                    .put(key.substring(separator + 1).trim(), properties.getProperty(key).trim());
+        }
+
+        List<DeclarativeRule> rules = new ArrayList<>(definitions.size());
+        definitions.forEach((ruleName, settings) -> rules.add(compile(ruleName, settings)));
+        return rules;
+    }
+
+    private static DeclarativeRule compile(String ruleName, Map<String, String> settings) {
+        for (String setting : settings.keySet()) {
+            if (!List.of(ASSERT_KEY, MESSAGE_KEY, WHEN_KEY, ACTIVE_KEY, ID_KEY).contains(setting)) {
+                throw new IllegalArgumentException(
+                        String.format("Unknown setting %s.%s in rule definitions", ruleName, setting));
+            }
+        }
+        String assertion = required(ruleName, settings, ASSERT_KEY);
+        String message = required(ruleName, settings, MESSAGE_KEY);
+        String activeValue = settings.getOrDefault(ACTIVE_KEY, "true");
+        if (!"true".equalsIgnoreCase(activeValue) && !"false".equalsIgnoreCase(activeValue)) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid value for %s.%s: %s", ruleName, ACTIVE_KEY, activeValue));
+        }
+        boolean active = Boolean.parseBoolean(activeValue);
+        int ruleId = ruleId(ruleName, required(ruleName, settings, ID_KEY));
+
+        long startNanos = System.nanoTime();
+        DeclarativeRule rule;
+        try {
+            rule = DeclarativeRule.compile(ruleName, ruleId, active, settings.get(WHEN_KEY), assertion, message);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException(
+                    String.format("Invalid declarative rule %s: %s", ruleName, e.getMessage()), e);
+        }
+        log.info("Compiled declarative rule {} in {} microseconds (reads {})", ruleName,
+                TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos), rule.getReadFields());
+        return rule;
+    }
+
+    private static int ruleId(String ruleName, String value) {
+        int ruleId;
+        try {
+            ruleId = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            ruleId = DeclarativeRule.UNASSIGNED_RULE_ID;
+        }
+        if (ruleId <= DeclarativeRule.UNASSIGNED_RULE_ID) {
+            throw new IllegalArgumentException(String.format(
+                    "Invalid value for %s.%s: %s (expected a positive integer)", ruleName, ID_KEY, value));
+        }
+        return ruleId;
+    }
+
+    private static String required(String ruleName, Map<String, String> settings, String setting) {
+        String value = settings.get(setting);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException(
+                    String.format("Declarative rule %s is missing %s.%s", ruleName, ruleName, setting));
+        }
+        return value;
+    }
+}
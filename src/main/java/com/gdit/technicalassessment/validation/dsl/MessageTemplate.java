@@ -0,0 +1,80 @@
+package com.gdit.technicalassessment.validation.dsl;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.RuleMessageTemplate;
+import com.gdit.technicalassessment.validation.ApplicationField;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Failure message with {@code {path}} placeholders, each compiled to an accessor handle when the rule is loaded.
+ * A failing rule only reads the placeholder values with {@link #arguments}; the message is rendered from them
+ * when it is read.
+ */
+final class MessageTemplate implements RuleMessageTemplate {
+
+    private static final Object[] NO_ARGUMENTS = new Object[0];
+
+    private final String source;
+    private final String[] literals;
+    private final MethodHandle[] values;
+
+    private MessageTemplate(String source, String[] literals, MethodHandle[] values) {
+        this.source = source;
+        this.literals = literals;
+        this.values = values;
+    }
+
+    static MessageTemplate compile(String template, Set<ApplicationField> readFields) {
+        List<String> literals = new ArrayList<>();
+        List<MethodHandle> values = new ArrayList<>();
+        int start = 0;
+        int open;
+        while ((open = template.indexOf('{', start)) >= 0) {
+            int close = template.indexOf('}', open);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder in message '" + template + "'");
+            }
+            literals.add(template.substring(start, open));
+            values.add(RuleExpressionCompiler.compilePath(template.substring(open + 1, close).trim(), readFields));
+            start = close + 1;
+        }
+        literals.add(template.substring(start));
+        return new MessageTemplate(template, literals.toArray(String[]::new), values.toArray(MethodHandle[]::new));
+    }
+
+    Object[] arguments(Application application) throws Throwable {
+        if (values.length == 0) {
+            return NO_ARGUMENTS;
+        }
+
+        Object[] arguments = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            arguments[i] = (Object) values[i].invokeExact(application);
+        }
+        return arguments;
+    }
+
+    // declarative messages are written in one language, so the locale is ignored
+    @Override
+    public String render(Locale locale, Object... arguments) {
+        if (values.length == 0) {
+            return literals[0];
+        }
+
+        StringBuilder message = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            message.append(literals[i]).append(arguments[i]);
+        }
+        return message.append(literals[values.length]).toString();
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
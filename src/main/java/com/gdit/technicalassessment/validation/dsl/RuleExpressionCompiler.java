@@ -0,0 +1,475 @@
+package com.gdit.technicalassessment.validation.dsl;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.validation.ApplicationField;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.RecordComponent;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Compiles rule expressions over {@link Application} record paths straight into {@link MethodHandle} chains.
+ * Paths are resolved against record accessors and operand types are checked at compile time, so evaluation
+ * is a chain of accessor calls and typed comparisons with no expression tree left to walk. The chains are
+ * held per rule rather than as constants, so the JIT does not fold them into its callers; they are not
+ * expected to run as fast as an equivalent Java rule.
+ *
+ * <pre>
+ * expression := or
+ * or         := and ("or" and)*
+ * and        := unary ("and" unary)*
+ * unary      := "not" unary | "(" or ")" | operand ("is" ["not"] ("null" | "blank") | op operand)
+ * op         := "==" | "!=" | "&lt;" | "&lt;=" | "&gt;" | "&gt;="
+ * operand    := path | integer | 'string' | true | false | null
+ * </pre>
+ */
+final class RuleExpressionCompiler {
+
+    private static final MethodType CONDITION_TYPE = MethodType.methodType(boolean.class, Application.class);
+    private static final MethodHandle TRUE = MethodHandles.dropArguments(
+            MethodHandles.constant(boolean.class, true), 0, Application.class);
+    private static final MethodHandle FALSE = MethodHandles.dropArguments(
+            MethodHandles.constant(boolean.class, false), 0, Application.class);
+    private static final MethodHandle NOT = operation("not", boolean.class, boolean.class);
+    private static final MethodHandle IS_NULL = operation("isNull", boolean.class, Object.class);
+    private static final MethodHandle IS_BLANK = operation("isBlank", boolean.class, String.class);
+    private static final MethodHandle EQUALS = operation("equal", boolean.class, Object.class, Object.class);
+
+    private final String source;
+    private final List<Token> tokens;
+    private final Set<ApplicationField> readFields;
+    private int position;
+
+    private RuleExpressionCompiler(String source, Set<ApplicationField> readFields) {
+        this.source = source;
+        this.tokens = Token.tokenize(source);
+        this.readFields = readFields;
+    }
+
+    /**
+     * Compiles a boolean expression to a handle of type {@code (Application)boolean}, adding every top-level
+     * application field it reads to {@code readFields}.
+     */
+    static MethodHandle compileCondition(String expression, Set<ApplicationField> readFields) {
+        RuleExpressionCompiler compiler = new RuleExpressionCompiler(expression, readFields);
+        MethodHandle condition = compiler.or();
+        compiler.expectEnd();
+        return condition;
+    }
+
+    /**
+     * Compiles a record path such as {@code household.numberInCollege} to a null-safe handle of type
+     * {@code (Application)Object}.
+     */
+    static MethodHandle compilePath(String path, Set<ApplicationField> readFields) {
+        RuleExpressionCompiler compiler = new RuleExpressionCompiler(path, readFields);
+        Token token = compiler.next();
+        if (token.kind() != Token.Kind.IDENTIFIER) {
+            throw compiler.error(token, "Expected a path");
+        }
+        compiler.expectEnd();
+        return compiler.path(token).handle().asType(MethodType.methodType(Object.class, Application.class));
+    }
+
+    private MethodHandle or() {
+        MethodHandle left = and();
+        while (peekKeyword("or")) {
+            next();
+            left = MethodHandles.guardWithTest(left, TRUE, and());
+        }
+        return left;
+    }
+
+    private MethodHandle and() {
+        MethodHandle left = unary();
+        while (peekKeyword("and")) {
+            next();
+            left = MethodHandles.guardWithTest(left, unary(), FALSE);
+        }
+        return left;
+    }
+
+    private MethodHandle unary() {
+        if (peekKeyword("not")) {
+            next();
+            return MethodHandles.filterReturnValue(unary(), NOT);
+        }
+        if (peek().is(Token.Kind.SYMBOL, "(")) {
+            next();
+            MethodHandle inner = or();
+            expect(Token.Kind.SYMBOL, ")");
+            return inner;
+        }
+        return comparison();
+    }
+
+    private MethodHandle comparison() {
+        Operand left = operand();
+
+        if (peekKeyword("is")) {
+            next();
+            boolean negated = peekKeyword("not");
+            if (negated) {
+                next();
+            }
+            Token check = next();
+            MethodHandle test;
+            if (check.isKeyword("null")) {
+                test = MethodHandles.filterReturnValue(left.as(Object.class), IS_NULL);
+            } else if (check.isKeyword("blank")) {
+                if (left.type() != String.class) {
+                    throw error(check, "'is blank' applies only to text values");
+                }
+                test = MethodHandles.filterReturnValue(left.handle(), IS_BLANK);
+            } else {
+                throw error(check, "Expected 'null' or 'blank'");
+            }
+            return negated ? MethodHandles.filterReturnValue(test, NOT) : test;
+        }
+
+        Token operator = next();
+        if (operator.kind() != Token.Kind.OPERATOR) {
+            throw error(operator, "Expected a comparison operator");
+        }
+        Operand right = operand();
+
+        if (left.literal() && !right.literal()) {
+            left = left.coerceTo(right.type(), this, operator);
+        } else if (right.literal() && !left.literal()) {
+            right = right.coerceTo(left.type(), this, operator);
+        }
+        Class<?> type = left.type() == Void.class ? right.type() : left.type();
+        if (left.type() != right.type() && left.type() != Void.class && right.type() != Void.class) {
+            throw error(operator, String.format("Cannot compare %s with %s",
+                    left.type().getSimpleName(), right.type().getSimpleName()));
+        }
+
+        return switch (operator.text()) {
+            case "==" -> combine(EQUALS, left, right, Object.class);
+            case "!=" -> MethodHandles.filterReturnValue(combine(EQUALS, left, right, Object.class), NOT);
+            default -> combine(ordering(operator, type), left, right, comparableType(type));
+        };
+    }
+
+    private MethodHandle ordering(Token operator, Class<?> type) {
+        String name = switch (operator.text()) {
+            case "<" -> "lessThan";
+            case "<=" -> "atMost";
+            case ">" -> "greaterThan";
+            case ">=" -> "atLeast";
+            default -> throw error(operator, "Unknown operator");
+        };
+        if (type == Void.class || comparableType(type) == null) {
+            throw error(operator, String.format("Operator %s applies only to numbers, dates and text",
+                    operator.text()));
+        }
+        Class<?> parameterType = comparableType(type);
+        return operation(name, boolean.class, parameterType, parameterType);
+    }
+
+    private static Class<?> comparableType(Class<?> type) {
+        if (type == Integer.class) {
+            return Integer.class;
+        }
+        if (type == LocalDate.class || type == String.class) {
+            return Comparable.class;
+        }
+        return null;
+    }
+
+    private static MethodHandle combine(MethodHandle operation, Operand left, Operand right, Class<?> parameterType) {
+        MethodHandle filtered = MethodHandles.filterArguments(operation, 0,
+                left.as(parameterType), right.as(parameterType));
+        return MethodHandles.permuteArguments(filtered, CONDITION_TYPE, 0, 0);
+    }
+
+    private Operand operand() {
+        Token token = next();
+        return switch (token.kind()) {
+            case IDENTIFIER -> {
+                if (token.isKeyword("true") || token.isKeyword("false")) {
+                    yield Operand.constant(Boolean.class, Boolean.valueOf(token.text().toLowerCase(Locale.ROOT)));
+                }
+                if (token.isKeyword("null")) {
+                    yield Operand.constant(Void.class, null);
+                }
+                yield path(token);
+            }
+            case NUMBER -> {
+                try {
+                    yield Operand.constant(Integer.class, Integer.valueOf(token.text()));
+                } catch (NumberFormatException e) {
+                    throw error(token, "Number out of range");
+                }
+            }
+            case STRING -> Operand.constant(String.class, token.text());
+            default -> throw error(token, "Expected a path or a value");
+        };
+    }
+
+    private Operand path(Token token) {
+        String[] segments = token.text().split("\\.", -1);
+        ApplicationField field;
+        try {
+            field = ApplicationField.fromString(segments[0]);
+        } catch (IllegalArgumentException e) {
+            throw error(token, "Unknown application field '" + segments[0] + "'");
+        }
+        readFields.add(field);
+
+        Class<?> type = Application.class;
+        MethodHandle handle = MethodHandles.identity(Application.class);
+        for (String segment : segments) {
+            RecordComponent component = component(type, segment, token);
+            MethodHandle accessor;
+            try {
+                accessor = MethodHandles.publicLookup().unreflect(component.getAccessor());
+            } catch (IllegalAccessException e) {
+                throw error(token, "Cannot read '" + segment + "'");
+            }
+            Class<?> componentType = component.getType().isPrimitive()
+                    ? MethodType.methodType(component.getType()).wrap().returnType()
+                    : component.getType();
+            accessor = accessor.asType(MethodType.methodType(componentType, type));
+            handle = MethodHandles.filterReturnValue(handle,
+                    type == Application.class ? accessor : nullSafe(accessor, type));
+            type = componentType;
+        }
+        return new Operand(handle, type, false, null);
+    }
+
+    private RecordComponent component(Class<?> type, String name, Token token) {
+        if (!type.isRecord()) {
+            throw error(token, "'" + name + "' cannot be read from a " + type.getSimpleName());
+        }
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (component.getName().equals(name)) {
+                return component;
+            }
+        }
+        throw error(token, String.format("%s has no field '%s'; available: %s", type.getSimpleName(), name,
+                Arrays.stream(type.getRecordComponents()).map(RecordComponent::getName)
+                        .collect(Collectors.joining(", "))));
+    }
+
+    private static MethodHandle nullSafe(MethodHandle accessor, Class<?> ownerType) {
+        MethodHandle ownerIsNull = IS_NULL.asType(MethodType.methodType(boolean.class, ownerType));
+        return MethodHandles.guardWithTest(ownerIsNull, MethodHandles.empty(accessor.type()), accessor);
+    }
+
+    private Token peek() {
+        return tokens.get(position);
+    }
+
+    private boolean peekKeyword(String keyword) {
+        return peek().isKeyword(keyword);
+    }
+
+    private Token next() {
+        Token token = tokens.get(position);
+        if (token.kind() != Token.Kind.END) {
+            position++;
+        }
+        return token;
+    }
+
+    private void expect(Token.Kind kind, String text) {
+        Token token = next();
+        if (!token.is(kind, text)) {
+            throw error(token, "Expected '" + text + "'");
+        }
+    }
+
+    private void expectEnd() {
+        Token token = peek();
+        if (token.kind() != Token.Kind.END) {
+            throw error(token, "Unexpected '" + token.text() + "'");
+        }
+    }
+
+    IllegalArgumentException error(Token token, String message) {
+        return new IllegalArgumentException(String.format("%s at position %d in '%s'",
+                message, token.position() + 1, source));
+    }
+
+    private static MethodHandle operation(String name, Class<?> returnType, Class<?>... parameterTypes) {
+        try {
+            return MethodHandles.lookup().findStatic(Operations.class, name,
+                    MethodType.methodType(returnType, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalStateException("Missing rule expression operation " + name, e);
+        }
+    }
+
+    private record Operand(MethodHandle handle, Class<?> type, boolean literal, Object value) {
+
+        static Operand constant(Class<?> type, Object value) {
+            Class<?> handleType = type == Void.class ? Object.class : type;
+            MethodHandle handle = MethodHandles.dropArguments(
+                    MethodHandles.constant(handleType, value), 0, Application.class);
+            return new Operand(handle, type, true, value);
+        }
+
+        MethodHandle as(Class<?> parameterType) {
+            return handle.asType(MethodType.methodType(parameterType, Application.class));
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Operand coerceTo(Class<?> target, RuleExpressionCompiler compiler, Token at) {
+            if (type == target || type == Void.class) {
+                return this;
+            }
+            if (type == String.class && target.isEnum()) {
+                String name = ((String) value).trim().toUpperCase(Locale.ROOT);
+                for (Object constant : target.getEnumConstants()) {
+                    if (((Enum) constant).name().equals(name)) {
+                        return constant(target, constant);
+                    }
+                }
+                throw compiler.error(at, String.format("'%s' is not a %s; expected one of %s", value,
+                        target.getSimpleName(), EnumSet.allOf((Class) target)));
+            }
+            if (type == String.class && target == LocalDate.class) {
+                try {
+                    return constant(LocalDate.class, LocalDate.parse((String) value));
+                } catch (DateTimeParseException e) {
+                    throw compiler.error(at, "'" + value + "' is not an ISO date (yyyy-MM-dd)");
+                }
+            }
+            throw compiler.error(at, String.format("Cannot compare %s with %s",
+                    target.getSimpleName(), type.getSimpleName()));
+        }
+    }
+
+    record Token(Kind kind, String text, int position) {
+
+        enum Kind { IDENTIFIER, NUMBER, STRING, OPERATOR, SYMBOL, END }
+
+        boolean is(Kind expectedKind, String expectedText) {
+            return kind == expectedKind && text.equals(expectedText);
+        }
+
+        boolean isKeyword(String keyword) {
+            return kind == Kind.IDENTIFIER && text.equalsIgnoreCase(keyword);
+        }
+
+        static List<Token> tokenize(String source) {
+            List<Token> tokens = new ArrayList<>();
+            int i = 0;
+            while (i < source.length()) {
+                char c = source.charAt(i);
+                int start = i;
+                if (Character.isWhitespace(c)) {
+                    i++;
+                } else if (Character.isLetter(c)) {
+                    while (i < source.length() && (Character.isLetterOrDigit(source.charAt(i))
+                            || source.charAt(i) == '.' || source.charAt(i) == '_')) {
+                        i++;
+                    }
+                    tokens.add(new Token(Kind.IDENTIFIER, source.substring(start, i), start));
+                } else if (Character.isDigit(c) || (c == '-' && i + 1 < source.length()
+                        && Character.isDigit(source.charAt(i + 1)))) {
+                    i++;
+                    while (i < source.length() && Character.isDigit(source.charAt(i))) {
+                        i++;
+                    }
+                    tokens.add(new Token(Kind.NUMBER, source.substring(start, i), start));
+                } else if (c == '\'' || c == '"') {
+                    int end = source.indexOf(c, i + 1);
+                    if (end < 0) {
+                        throw new IllegalArgumentException(String.format(
+                                "Unterminated text at position %d in '%s'", start + 1, source));
+                    }
+                    tokens.add(new Token(Kind.STRING, source.substring(i + 1, end), start));
+                    i = end + 1;
+                } else if ("=!<>".indexOf(c) >= 0) {
+                    boolean twoChars = i + 1 < source.length() && source.charAt(i + 1) == '=';
+                    String operator = source.substring(i, i + (twoChars ? 2 : 1));
+                    if (operator.equals("=") || operator.equals("!")) {
+                        throw new IllegalArgumentException(String.format(
+                                "Unknown operator '%s' at position %d in '%s'", operator, start + 1, source));
+                    }
+                    tokens.add(new Token(Kind.OPERATOR, operator, start));
+                    i += operator.length();
+                } else if (c == '(' || c == ')') {
+                    tokens.add(new Token(Kind.SYMBOL, String.valueOf(c), start));
+                    i++;
+                } else {
+                    throw new IllegalArgumentException(String.format(
+                            "Unexpected character '%c' at position %d in '%s'", c, start + 1, source));
+                }
+            }
+            tokens.add(new Token(Kind.END, "end of expression", source.length()));
+            return tokens;
+        }
+    }
+
+    static final class Operations {
+
+        private Operations() {
+        }
+
+        static boolean not(boolean value) {
+            return !value;
+        }
+
+        static boolean isNull(Object value) {
+            return value == null;
+        }
+
+        static boolean isBlank(String value) {
+            return value == null || value.isBlank();
+        }
+
+        static boolean equal(Object left, Object right) {
+            return Objects.equals(left, right);
+        }
+
+        static boolean lessThan(Integer left, Integer right) {
+            return left != null && right != null && left < right;
+        }
+
+        static boolean atMost(Integer left, Integer right) {
+            return left != null && right != null && left <= right;
+        }
+
+        static boolean greaterThan(Integer left, Integer right) {
+            return left != null && right != null && left > right;
+        }
+
+        static boolean atLeast(Integer left, Integer right) {
+            return left != null && right != null && left >= right;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static boolean lessThan(Comparable left, Comparable right) {
+            return left != null && right != null && left.compareTo(right) < 0;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static boolean atMost(Comparable left, Comparable right) {
+            return left != null && right != null && left.compareTo(right) <= 0;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static boolean greaterThan(Comparable left, Comparable right) {
+            return left != null && right != null && left.compareTo(right) > 0;
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        static boolean atLeast(Comparable left, Comparable right) {
+            return left != null && right != null && left.compareTo(right) >= 0;
+        }
+    }
+}
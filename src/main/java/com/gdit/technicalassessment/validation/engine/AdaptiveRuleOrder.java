@@ -0,0 +1,101 @@
+package com.gdit.technicalassessment.validation.engine;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Tracks how often and how expensively each rule of a plan fails, and periodically re-sorts the plan so
+ * that cheap, frequently failing rules are tried first when validation stops at the first failure.
+ */
+public class AdaptiveRuleOrder {
+
+    static final int REORDER_INTERVAL = 1024;
+
+    private final AtomicLongArray evaluations;
+    private final AtomicLongArray failures;
+    private final AtomicLongArray elapsedNanos;
+    private final AtomicLong recordedEvaluations = new AtomicLong();
+    private final int reorderInterval;
+    private volatile int[] sequence;
+
+    public AdaptiveRuleOrder(int ruleCount) {
+        this(ruleCount, REORDER_INTERVAL);
+    }
+
+    AdaptiveRuleOrder(int ruleCount, int reorderInterval) {
+        this.evaluations = new AtomicLongArray(ruleCount);
+        this.failures = new AtomicLongArray(ruleCount);
+        this.elapsedNanos = new AtomicLongArray(ruleCount);
+        this.reorderInterval = reorderInterval;
+        this.sequence = new int[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            sequence[i] = i;
+        }
+    }
+
+    public int[] currentSequence() {
+        return sequence;
+    }
+
+    public void record(int ruleIndex, long nanos, boolean failed) {
+        evaluations.incrementAndGet(ruleIndex);
+        elapsedNanos.addAndGet(ruleIndex, nanos);
+        if (failed) {
+            failures.incrementAndGet(ruleIndex);
+        }
+
+        if (recordedEvaluations.incrementAndGet() % reorderInterval == 0) {
+            reorder();
+        }
+    }
+
+    /**
+     * Seeds this order with the statistics {@code previous} gathered, so a recompiled plan keeps what the plan
+     * it replaces learned. {@code previousIndexes[i]} is the index in {@code previous} of this order's rule
+     * {@code i}, or a negative value for a rule the previous plan did not have.
+     */
+    public void inherit(AdaptiveRuleOrder previous, int[] previousIndexes) {
+        long inherited = 0;
+        for (int i = 0; i < previousIndexes.length; i++) {
+            int previousIndex = previousIndexes[i];
+            if (previousIndex < 0) {
+                continue;
+            }
+            long count = previous.evaluations.get(previousIndex);
+            evaluations.set(i, count);
+            failures.set(i, previous.failures.get(previousIndex));
+            elapsedNanos.set(i, previous.elapsedNanos.get(previousIndex));
+            inherited += count;
+        }
+        if (inherited > 0) {
+            recordedEvaluations.set(previous.recordedEvaluations.get());
+            reorder();
+        }
+    }
+
+    public double failureRate(int ruleIndex) {
+        return (failures.get(ruleIndex) + 1.0) / (evaluations.get(ruleIndex) + 2.0);
+    }
+
+    void reorder() {
+        int ruleCount = evaluations.length();
+        double[] scores = new double[ruleCount];
+        Integer[] indices = new Integer[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            long count = evaluations.get(i);
+            double averageNanos = count == 0 ? 1.0 : Math.max(1.0, (double) elapsedNanos.get(i) / count);
+            scores[i] = failureRate(i) / averageNanos;
+            indices[i] = i;
+        }
+
+        Arrays.sort(indices, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+
+        int[] reordered = new int[ruleCount];
+        for (int i = 0; i < ruleCount; i++) {
+            reordered[i] = indices[i];
+        }
+        this.sequence = reordered;
+    }
+}
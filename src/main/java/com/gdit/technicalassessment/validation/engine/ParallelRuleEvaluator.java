@@ -0,0 +1,61 @@
+package com.gdit.technicalassessment.validation.engine;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Fans the selected rules of a plan out onto an executor and returns their results in selection order.
+ * The last rule runs on the calling thread so a request never idles while it waits.
+ */
+public class ParallelRuleEvaluator {
+
+    private final ExecutorService executor;
+
+    public ParallelRuleEvaluator(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    @SuppressWarnings("unchecked")
+    public ValidationDetails[] evaluate(RuleExecutionPlan plan, int[] ruleIndices, Application application,
+                                        ApplicationFacts facts) {
+        int ruleCount = ruleIndices.length;
+        ValidationDetails[] results = new ValidationDetails[ruleCount];
+        if (ruleCount == 0) {
+            return results;
+        }
+
+        int lastIndex = ruleCount - 1;
+        CompletableFuture<ValidationDetails>[] futures = new CompletableFuture[lastIndex];
+        for (int i = 0; i < lastIndex; i++) {
+            int ruleIndex = ruleIndices[i];
+            futures[i] = CompletableFuture.supplyAsync(() -> plan.evaluate(ruleIndex, application, facts), executor);
+        }
+
+        results[lastIndex] = plan.evaluate(ruleIndices[lastIndex], application, facts);
+
+        for (int i = 0; i < lastIndex; i++) {
+            results[i] = join(futures[i]);
+        }
+        return results;
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+
+    private ValidationDetails join(CompletableFuture<ValidationDetails> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,339 @@
+package com.gdit.technicalassessment.validation.engine;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.ApplicationProfile;
+import com.gdit.technicalassessment.validation.CompactResultCollector;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.ParameterizedRule;
+import com.gdit.technicalassessment.validation.RuleApplicability;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.RuleParameters;
+import com.gdit.technicalassessment.validation.RuleResultCollector;
+import com.gdit.technicalassessment.validation.ValidationRule;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Immutable snapshot of the active rules, compiled once so the per-application
+ * loop does not re-check activation or re-resolve rule names. Rule applicability is
+ * resolved per {@link ApplicationProfile} at compile time, so dispatching an
+ * application is a single table lookup.
+ * <p>
+ * Every rule also gets a numeric id for compact results: its own {@link ValidationRule#getRuleId()} when it
+ * declares one, otherwise the next free id after the highest declared one, in rule-name order.
+ */
+public final class RuleExecutionPlan {
+
+    private final ValidationRule[] rules;
+    private final FactsValidationRule[] factsRules;
+    private final boolean usesFacts;
+    private final String[] ruleNames;
+    private final int[] ruleIds;
+    private final int maxRuleId;
+    private final Map<String, Integer> ruleIdsByName;
+    private final int[][] applicableRulesByProfile;
+    private final boolean[][] applicabilityByProfile;
+    private final List<RuleResult>[] notApplicableResultsByProfile;
+    private final Map<ApplicationField, int[]> rulesByField;
+    private final AdaptiveRuleOrder adaptiveOrder;
+    private final String ruleSetVersion;
+
+    private RuleExecutionPlan(String ruleSetVersion, ValidationRule[] rules, String[] ruleNames, int[] ruleIds,
+                              int[][] applicableRulesByProfile, boolean[][] applicabilityByProfile,
+                              List<RuleResult>[] notApplicableResultsByProfile,
+                              Map<ApplicationField, int[]> rulesByField) {
+        this.rules = rules;
+        this.factsRules = new FactsValidationRule[rules.length];
+        boolean anyFactsRule = false;
+        for (int i = 0; i < rules.length; i++) {
+            if (rules[i] instanceof FactsValidationRule factsRule) {
+                factsRules[i] = factsRule;
+                anyFactsRule = true;
+            }
+        }
+        this.usesFacts = anyFactsRule;
+        this.ruleNames = ruleNames;
+        this.ruleIds = ruleIds;
+        Map<String, Integer> idsByName = new LinkedHashMap<>();
+        int highestId = 0;
+        for (int i = 0; i < rules.length; i++) {
+            idsByName.put(ruleNames[i], ruleIds[i]);
+            highestId = Math.max(highestId, ruleIds[i]);
+        }
+        this.maxRuleId = highestId;
+        this.ruleIdsByName = Collections.unmodifiableMap(idsByName);
+        this.applicableRulesByProfile = applicableRulesByProfile;
+        this.applicabilityByProfile = applicabilityByProfile;
+        this.notApplicableResultsByProfile = notApplicableResultsByProfile;
+        this.rulesByField = rulesByField;
+        this.adaptiveOrder = new AdaptiveRuleOrder(rules.length);
+        this.ruleSetVersion = ruleSetVersion;
+    }
+
+    public static RuleExecutionPlan compile(Collection<ValidationRule> candidates) {
+        return compile(candidates, RuleConfiguration.DEFAULTS);
+    }
+
+    public static RuleExecutionPlan compile(Collection<ValidationRule> candidates, RuleConfiguration configuration) {
+        return compile(candidates, configuration, null);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static RuleExecutionPlan compile(Collection<ValidationRule> candidates, RuleConfiguration configuration,
+                                            String ruleSetVersion) {
+        List<ValidationRule> candidateRules = new ArrayList<>(candidates);
+        List<String> candidateNames = new ArrayList<>(candidateRules.size());
+        for (ValidationRule rule : candidateRules) {
+            candidateNames.add(rule.getRuleName());
+        }
+        Map<String, Integer> assignedIds = assignRuleIds(candidateRules, candidateNames);
+
+        List<ValidationRule> activeRules = new ArrayList<>(candidates.size());
+        List<String> activeRuleNames = new ArrayList<>(candidates.size());
+        for (int c = 0; c < candidateRules.size(); c++) {
+            ValidationRule rule = candidateRules.get(c);
+            String ruleName = candidateNames.get(c);
+            if (!configuration.isActive(ruleName, rule.isActive()) || !belongsTo(rule, ruleSetVersion)) {
+                continue;
+            }
+
+            RuleParameters parameters = configuration.parametersFor(ruleName);
+            if (rule instanceof ParameterizedRule parameterizedRule && !parameters.isEmpty()) {
+                rule = parameterizedRule.withParameters(parameters);
+            }
+            activeRules.add(rule);
+            activeRuleNames.add(ruleName);
+        }
+
+        ValidationRule[] rules = activeRules.toArray(new ValidationRule[0]);
+        String[] ruleNames = activeRuleNames.toArray(new String[0]);
+        int[] ruleIds = new int[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            ruleIds[i] = assignedIds.get(ruleNames[i]);
+        }
+        RuleApplicability[] guards = new RuleApplicability[rules.length];
+        for (int i = 0; i < rules.length; i++) {
+            RuleApplicability guard = rules[i].getApplicability();
+            guards[i] = guard != null ? guard : RuleApplicability.ALWAYS;
+        }
+
+        int[][] applicableRulesByProfile = new int[ApplicationProfile.KEY_COUNT][];
+        boolean[][] applicabilityByProfile = new boolean[ApplicationProfile.KEY_COUNT][rules.length];
+        List<RuleResult>[] notApplicableResultsByProfile = new List[ApplicationProfile.KEY_COUNT];
+
+        for (int key = 0; key < ApplicationProfile.KEY_COUNT; key++) {
+            ApplicationProfile profile = ApplicationProfile.fromKey(key);
+            List<Integer> applicable = new ArrayList<>(rules.length);
+            List<RuleResult> notApplicable = new ArrayList<>();
+
+            for (int i = 0; i < rules.length; i++) {
+                if (guards[i].appliesTo(profile)) {
+                    applicable.add(i);
+                    applicabilityByProfile[key][i] = true;
+                } else {
+                    notApplicable.add(RuleResult.builder().ruleName(ruleNames[i]).build());
+                }
+            }
+
+            applicableRulesByProfile[key] = applicable.stream().mapToInt(Integer::intValue).toArray();
+            notApplicableResultsByProfile[key] = List.copyOf(notApplicable);
+        }
+
+        return new RuleExecutionPlan(ruleSetVersion, rules, ruleNames, ruleIds, applicableRulesByProfile,
+                applicabilityByProfile, notApplicableResultsByProfile, indexRulesByField(rules));
+    }
+
+    private static Map<String, Integer> assignRuleIds(List<ValidationRule> candidates, List<String> names) {
+        Map<String, Integer> ids = new HashMap<>();
+        Map<Integer, String> namesById = new HashMap<>();
+        Set<String> unassigned = new TreeSet<>(Comparator.nullsFirst(Comparator.naturalOrder()));
+        int highestId = 0;
+        for (int c = 0; c < candidates.size(); c++) {
+            String ruleName = names.get(c);
+            int ruleId = candidates.get(c).getRuleId();
+            if (ruleId <= ValidationRule.UNASSIGNED_RULE_ID) {
+                unassigned.add(ruleName);
+                continue;
+            }
+            String owner = namesById.putIfAbsent(ruleId, ruleName);
+            if (owner != null && !owner.equals(ruleName)) {
+                throw new IllegalStateException(
+                        String.format("Rules %s and %s share rule id %d", owner, ruleName, ruleId));
+            }
+            ids.putIfAbsent(ruleName, ruleId);
+            highestId = Math.max(highestId, ruleId);
+        }
+        for (String ruleName : unassigned) {
+            if (!ids.containsKey(ruleName)) {
+                ids.put(ruleName, ++highestId);
+            }
+        }
+        return ids;
+    }
+
+    private static boolean belongsTo(ValidationRule rule, String ruleSetVersion) {
+        if (ruleSetVersion == null) {
+            return true;
+        }
+        Set<String> versions = rule.getRuleSetVersions();
+        return versions == null || versions.isEmpty() || versions.contains(ruleSetVersion);
+    }
+
+    private static Map<ApplicationField, int[]> indexRulesByField(ValidationRule[] rules) {
+        Map<ApplicationField, List<Integer>> readers = new EnumMap<>(ApplicationField.class);
+        for (ApplicationField field : ApplicationField.values()) {
+            readers.put(field, new ArrayList<>());
+        }
+
+        for (int i = 0; i < rules.length; i++) {
+            Set<ApplicationField> readFields = rules[i].getReadFields();
+            if (readFields == null || readFields.isEmpty()) {
+                readFields = EnumSet.allOf(ApplicationField.class);
+            }
+            for (ApplicationField field : readFields) {
+                readers.get(field).add(i);
+            }
+        }
+
+        Map<ApplicationField, int[]> rulesByField = new EnumMap<>(ApplicationField.class);
+        readers.forEach((field, indices) ->
+                rulesByField.put(field, indices.stream().mapToInt(Integer::intValue).toArray()));
+        return rulesByField;
+    }
+
+    public String ruleSetVersion() {
+        return ruleSetVersion;
+    }
+
+    public int size() {
+        return rules.length;
+    }
+
+    public ValidationRule ruleAt(int index) {
+        return rules[index];
+    }
+
+    public boolean usesFacts() {
+        return usesFacts;
+    }
+
+    public ValidationDetails evaluate(int index, Application application, ApplicationFacts facts) {
+        FactsValidationRule factsRule = factsRules[index];
+        return factsRule != null ? factsRule.validate(facts) : rules[index].validate(application);
+    }
+
+    public void evaluate(int index, Application application, ApplicationFacts facts, RuleResultCollector collector) {
+        FactsValidationRule factsRule = factsRules[index];
+        if (factsRule != null) {
+            factsRule.validate(facts, collector);
+        } else {
+            collector.addAll(rules[index].validate(application));
+        }
+    }
+
+    public void evaluate(int index, Application application, ApplicationFacts facts,
+                         CompactResultCollector collector) {
+        collector.begin(ruleIds[index]);
+        FactsValidationRule factsRule = factsRules[index];
+        if (factsRule != null) {
+            factsRule.validate(facts, collector);
+        } else {
+            collector.addAll(rules[index].validate(application));
+        }
+    }
+
+    /**
+     * Re-encodes full validation details as a compact result, for outcomes not produced by a
+     * {@link CompactResultCollector} (first-failure, cached or parallel evaluations).
+     */
+    public CompactValidationDetails compact(ValidationDetails details) {
+        CompactResultCollector collector = new CompactResultCollector(maxRuleId);
+        if (details.failedRules() != null) {
+            for (RuleResult result : details.failedRules()) {
+                Integer ruleId = ruleIdsByName.get(result.ruleName());
+                if (ruleId == null) {
+                    throw new IllegalArgumentException("Rule " + result.ruleName() + " is not part of this plan");
+                }
+                collector.begin(ruleId);
+                collector.add(result);
+            }
+        }
+        return collector.toDetails();
+    }
+
+    public String ruleNameAt(int index) {
+        return ruleNames[index];
+    }
+
+    public int ruleIdAt(int index) {
+        return ruleIds[index];
+    }
+
+    public int maxRuleId() {
+        return maxRuleId;
+    }
+
+    /**
+     * Numeric ids of the rules in this plan, keyed by rule name, for decoding compact results.
+     */
+    public Map<String, Integer> ruleIds() {
+        return ruleIdsByName;
+    }
+
+    public int[] applicableRules(int profileKey) {
+        return applicableRulesByProfile[profileKey];
+    }
+
+    public boolean isApplicable(int profileKey, int ruleIndex) {
+        return applicabilityByProfile[profileKey][ruleIndex];
+    }
+
+    public List<RuleResult> notApplicableResults(int profileKey) {
+        return notApplicableResultsByProfile[profileKey];
+    }
+
+    public int[] rulesReading(ApplicationField field) {
+        return rulesByField.get(field);
+    }
+
+    public AdaptiveRuleOrder adaptiveOrder() {
+        return adaptiveOrder;
+    }
+
+    /**
+     * Carries the adaptive rule-order statistics of {@code previous} over to this plan, matching rules by rule
+     * id, so a recompile or configuration reload does not discard what the previous plan learned. Rules new to
+     * this plan start without statistics.
+     */
+    public void inheritAdaptiveOrder(RuleExecutionPlan previous) {
+        Map<Integer, Integer> previousIndexById = new HashMap<>();
+        for (int i = 0; i < previous.ruleIds.length; i++) {
+            previousIndexById.put(previous.ruleIds[i], i);
+        }
+        int[] previousIndexes = new int[ruleIds.length];
+        for (int i = 0; i < ruleIds.length; i++) {
+            previousIndexes[i] = previousIndexById.getOrDefault(ruleIds[i], -1);
+        }
+        adaptiveOrder.inherit(previous.adaptiveOrder, previousIndexes);
+    }
+
+    public List<String> getRuleNames() {
+        return List.of(ruleNames);
+    }
+}
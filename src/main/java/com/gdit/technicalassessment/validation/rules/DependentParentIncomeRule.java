@@ -1,70 +1,70 @@
 package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.Application;
-import com.gdit.technicalassessment.model.RuleResult;
-import com.gdit.technicalassessment.model.ValidationDetails;
-import com.gdit.technicalassessment.model.ValidationStatus;
-import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleApplicability;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 import static com.gdit.technicalassessment.model.DependencyStatus.INDEPENDENT;
 
 @Component
-public class DependentParentIncomeRule implements ValidationRule {
+public class DependentParentIncomeRule implements FactsValidationRule {
     @Override
     public String getRuleName() {
         return "DEPENDENT_PARENT_INCOME";
     }
 
+    @Override
+    public int getRuleId() {
+        return 3;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
+    public RuleApplicability getApplicability() {
+        return profile -> profile.dependencyStatus() != INDEPENDENT;
+    }
+
+    @Override
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.DEPENDENCY_STATUS, ApplicationField.INCOME);
+    }
+
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        Application application = facts.application();
+
         if (application.dependencyStatus() == null) {
-            return buildInvalidResult("Dependency status is missing");
+            sink.fail(getRuleName(), RuleMessage.DEPENDENCY_STATUS_MISSING);
+            return;
         }
 
         if (application.dependencyStatus() == INDEPENDENT) {
-            return buildValidResultForIndependent();
+            sink.pass(getRuleName());
+            return;
         }
 
         if (application.income() == null) {
-            return buildInvalidResult("Dependent student must have income information with parent income");
+            sink.fail(getRuleName(), RuleMessage.DEPENDENT_INCOME_MISSING);
+            return;
         }
 
         if (application.income().parentIncome() == null) {
-            return buildInvalidResult("Dependent student must have parent income");
+            sink.fail(getRuleName(), RuleMessage.DEPENDENT_PARENT_INCOME_MISSING);
+            return;
         }
 
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
-    }
-
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
-    }
-
-    private ValidationDetails buildValidResultForIndependent() {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
-    }
-
-    private ValidationDetails buildInvalidResult(String message) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(List.of(buildRuleResult(message)))
-                .build();
+        sink.pass(getRuleName());
     }
 }
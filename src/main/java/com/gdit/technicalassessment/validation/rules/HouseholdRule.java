@@ -1,96 +1,85 @@
 package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.*;
-import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Component
-public class HouseholdRule implements ValidationRule {
+public class HouseholdRule implements FactsValidationRule {
 
     @Override
     public String getRuleName() {
         return "HOUSEHOLD_COLLEGE_COUNT";
     }
 
+    @Override
+    public int getRuleId() {
+        return 5;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
-        if (application.household() == null) {
-            return buildInvalidResult("Household information is missing");
-        }
-
-        List<RuleResult> failedRules = new ArrayList<>();
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.HOUSEHOLD);
+    }
 
-        validateRequiredFields(application.household().numberInHousehold(),
-                application.household().numberInCollege(), failedRules);
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        Application application = facts.application();
 
-        if (!failedRules.isEmpty()) {
-            return buildInvalidResult(failedRules);
+        if (application.household() == null) {
+            sink.fail(getRuleName(), RuleMessage.HOUSEHOLD_MISSING);
+            return;
         }
 
-        validateNonNegativeValues(application.household().numberInHousehold(),
-                application.household().numberInCollege(), failedRules);
+        if (!validateRequiredFields(application.household().numberInHousehold(),
+                application.household().numberInCollege(), sink)) {
+            return;
+        }
 
-        if (!failedRules.isEmpty()) {
-            return buildInvalidResult(failedRules);
+        if (!validateNonNegativeValues(application.household().numberInHousehold(),
+                application.household().numberInCollege(), sink)) {
+            return;
         }
 
         if (application.household().numberInCollege() > application.household().numberInHousehold()) {
-            return buildInvalidResult(String.format(
-                    "Number in college (%d) cannot exceed number in household (%d)",
-                    application.household().numberInCollege(), application.household().numberInHousehold()));
+            sink.fail(getRuleName(), RuleMessage.HOUSEHOLD_COLLEGE_EXCEEDS_SIZE,
+                    application.household().numberInCollege(), application.household().numberInHousehold());
+            return;
         }
 
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
+        sink.pass(getRuleName());
     }
 
-    private void validateRequiredFields(Integer numberInHousehold, Integer numberInCollege,
-                                       List<RuleResult> failedRules) {
+    private boolean validateRequiredFields(Integer numberInHousehold, Integer numberInCollege,
+                                           RuleResultSink sink) {
         if (numberInHousehold == null) {
-            failedRules.add(buildRuleResult("Number in household is missing"));
+            sink.fail(getRuleName(), RuleMessage.HOUSEHOLD_SIZE_MISSING);
         }
         if (numberInCollege == null) {
-            failedRules.add(buildRuleResult("Number in college is missing"));
+            sink.fail(getRuleName(), RuleMessage.HOUSEHOLD_COLLEGE_MISSING);
         }
+        return numberInHousehold != null && numberInCollege != null;
     }
 
-    private void validateNonNegativeValues(Integer numberInHousehold, Integer numberInCollege,
-                                          List<RuleResult> failedRules) {
+    private boolean validateNonNegativeValues(Integer numberInHousehold, Integer numberInCollege,
+                                              RuleResultSink sink) {
         if (numberInHousehold < 0) {
-            failedRules.add(buildRuleResult(String.format(
-                    "Number in household cannot be negative. Provided: %d", numberInHousehold)));
+            sink.fail(getRuleName(), RuleMessage.HOUSEHOLD_SIZE_NEGATIVE, numberInHousehold);
         }
         if (numberInCollege < 0) {
-            failedRules.add(buildRuleResult(String.format(
-                    "Number in college cannot be negative. Provided: %d", numberInCollege)));
+            sink.fail(getRuleName(), RuleMessage.HOUSEHOLD_COLLEGE_NEGATIVE, numberInCollege);
         }
-    }
-
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
-    }
-
-    private ValidationDetails buildInvalidResult(String message) {
-        return buildInvalidResult(List.of(buildRuleResult(message)));
-    }
-
-    private ValidationDetails buildInvalidResult(List<RuleResult> failedRules) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(failedRules)
-                .build();
+        return numberInHousehold >= 0 && numberInCollege >= 0;
     }
 }
@@ -1,78 +1,62 @@
 package com.gdit.technicalassessment.validation.rules;
 
-import com.gdit.technicalassessment.model.Application;
-import com.gdit.technicalassessment.model.RuleResult;
-import com.gdit.technicalassessment.model.ValidationDetails;
-import com.gdit.technicalassessment.model.ValidationStatus;
-import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.model.Income;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Component
-public class IncomeValueRule implements ValidationRule {
+public class IncomeValueRule implements FactsValidationRule {
 
     @Override
     public String getRuleName() {
         return "INCOME_VALUE";
     }
 
+    @Override
+    public int getRuleId() {
+        return 4;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
-        if (application.income() == null) {
-            return buildInvalidResult("Income information is missing");
-        }
-
-        List<RuleResult> failedRules = new ArrayList<>();
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.INCOME);
+    }
 
-        validateStudentIncome(application.income().studentIncome(), failedRules);
-        validateParentIncome(application.income().parentIncome(), failedRules);
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        Income income = facts.application().income();
 
-        if (!failedRules.isEmpty()) {
-            return buildInvalidResult(failedRules);
+        if (income == null) {
+            sink.fail(getRuleName(), RuleMessage.INCOME_MISSING);
+            return;
         }
 
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
-    }
+        boolean valid = true;
 
-    private void validateStudentIncome(Integer studentIncome, List<RuleResult> failedRules) {
-        if (studentIncome != null && studentIncome < 0) {
-            failedRules.add(buildRuleResult(
-                    String.format("Student income cannot be negative. Provided: %d", studentIncome)));
+        if (income.studentIncome() != null && income.studentIncome() < 0) {
+            sink.fail(getRuleName(), RuleMessage.STUDENT_INCOME_NEGATIVE, income.studentIncome());
+            valid = false;
         }
-    }
 
-    private void validateParentIncome(Integer parentIncome, List<RuleResult> failedRules) {
-        if (parentIncome != null && parentIncome < 0) {
-            failedRules.add(buildRuleResult(
-                    String.format("Parent income cannot be negative. Provided: %d", parentIncome)));
+        if (income.parentIncome() != null && income.parentIncome() < 0) {
+            sink.fail(getRuleName(), RuleMessage.PARENT_INCOME_NEGATIVE, income.parentIncome());
+            valid = false;
         }
-    }
-
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
-    }
 
-    private ValidationDetails buildInvalidResult(String message) {
-        return buildInvalidResult(List.of(buildRuleResult(message)));
-    }
-
-    private ValidationDetails buildInvalidResult(List<RuleResult> failedRules) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(failedRules)
-                .build();
+        if (valid) {
+            sink.pass(getRuleName());
+        }
     }
 }
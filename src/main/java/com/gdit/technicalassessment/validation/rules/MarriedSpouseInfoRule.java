@@ -2,110 +2,108 @@ package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.Application;
 import com.gdit.technicalassessment.model.MaritalStatus;
-import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.RuleMessage;
 import com.gdit.technicalassessment.model.SpouseInfo;
-import com.gdit.technicalassessment.model.ValidationDetails;
-import com.gdit.technicalassessment.model.ValidationStatus;
-import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleApplicability;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import com.gdit.technicalassessment.validation.util.SsnValidator;
+import org.springframework.stereotype.Component;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
-public class MarriedSpouseInfoRule implements ValidationRule {
+@Component
+public class MarriedSpouseInfoRule implements FactsValidationRule {
 
     @Override
     public String getRuleName() {
         return "MARRIED_SPOUSE_INFO";
     }
 
+    @Override
+    public int getRuleId() {
+        return 7;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
+    public RuleApplicability getApplicability() {
+        return profile -> profile.maritalStatus() != MaritalStatus.SINGLE || profile.hasSpouseInfo();
+    }
+
+    @Override
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.MARITAL_STATUS, ApplicationField.SPOUSE_INFO);
+    }
+
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        Application application = facts.application();
+
         if (application.maritalStatus() == null) {
-            return buildInvalidResult("Marital status is missing");
+            sink.fail(getRuleName(), RuleMessage.MARITAL_STATUS_MISSING);
+            return;
         }
 
         if (application.maritalStatus() == MaritalStatus.SINGLE) {
-            return validateSingleStudent(application);
+            validateSingleStudent(application, sink);
+            return;
         }
 
         if (application.spouseInfo() == null) {
-            return buildInvalidResult("Married student must have spouse information");
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_INFO_MISSING);
+            return;
         }
 
-        return validateMarriedStudent(application.spouseInfo());
+        if (validateSpouse(facts, sink)) {
+            sink.pass(getRuleName());
+        }
     }
 
-    private ValidationDetails validateSingleStudent(Application application) {
+    private void validateSingleStudent(Application application, RuleResultSink sink) {
         if (application.spouseInfo() != null) {
-            return buildInvalidResult("Single student cannot have spouse information");
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_INFO_UNEXPECTED);
+            return;
         }
-        return buildValidResult();
+        sink.pass(getRuleName());
     }
 
-    private ValidationDetails validateMarriedStudent(SpouseInfo spouseInfo) {
-        List<RuleResult> failedRules = new ArrayList<>();
-
-        validateSpouse(spouseInfo, failedRules);
-
-        if (!failedRules.isEmpty()) {
-            return buildInvalidResult(failedRules);
-        }
-
-        return buildValidResult();
-    }
+    private boolean validateSpouse(ApplicationFacts facts, RuleResultSink sink) {
+        SpouseInfo spouseInfo = facts.application().spouseInfo();
+        boolean valid = true;
 
-    private void validateSpouse(SpouseInfo spouseInfo, List<RuleResult> failedRules) {
         if (isNullOrEmpty(spouseInfo.firstName())) {
-            failedRules.add(buildRuleResult("Spouse first name is missing"));
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_FIRST_NAME_MISSING);
+            valid = false;
         }
 
         if (isNullOrEmpty(spouseInfo.lastName())) {
-            failedRules.add(buildRuleResult("Spouse last name is missing"));
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_LAST_NAME_MISSING);
+            valid = false;
         }
 
-        if (isNullOrEmpty(spouseInfo.ssn())) {
-            failedRules.add(buildRuleResult("Spouse SSN is missing"));
-        } else if (!SsnValidator.isValidSsn(spouseInfo.ssn())) {
-            failedRules.add(buildRuleResult(
-                    String.format("Spouse SSN must be exactly 9 digits. Provided: %s", spouseInfo.ssn())));
+        if (!facts.hasSpouseSsn()) {
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_SSN_MISSING);
+            valid = false;
+        } else if (facts.spouseSsn() == SsnValidator.UNISSUED_SSN) {
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_SSN_UNISSUED, spouseInfo.ssn());
+            valid = false;
+        } else if (!facts.spouseSsnValid()) {
+            sink.fail(getRuleName(), RuleMessage.SPOUSE_SSN_MALFORMED, spouseInfo.ssn());
+            valid = false;
         }
-    }
 
+        return valid;
+    }
 
     private boolean isNullOrEmpty(String value) {
         return value == null || value.isEmpty();
     }
-
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
-    }
-
-    private ValidationDetails buildValidResult() {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
-    }
-
-
-    private ValidationDetails buildInvalidResult(String message) {
-        return buildInvalidResult(List.of(buildRuleResult(message)));
-    }
-
-    private ValidationDetails buildInvalidResult(List<RuleResult> failedRules) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(failedRules)
-                .build();
-    }
 }
-
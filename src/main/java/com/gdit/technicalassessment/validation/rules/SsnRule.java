@@ -1,62 +1,56 @@
 package com.gdit.technicalassessment.validation.rules;
 
-import com.gdit.technicalassessment.model.Application;
-import com.gdit.technicalassessment.model.RuleResult;
-import com.gdit.technicalassessment.model.ValidationDetails;
-import com.gdit.technicalassessment.model.ValidationStatus;
-import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import com.gdit.technicalassessment.validation.util.SsnValidator;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Component
-public class SsnRule implements ValidationRule {
+public class SsnRule implements FactsValidationRule {
 
     @Override
     public String getRuleName() {
         return "SSN_FORMAT";
     }
 
+    @Override
+    public int getRuleId() {
+        return 2;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
-        if (!hasSsnInformation(application)) {
-            return buildInvalidResult("Student SSN is missing");
-        }
-
-        String ssn = application.studentInfo().ssn();
-
-        if (!SsnValidator.isValidSsn(ssn)) {
-            return buildInvalidResult(String.format("SSN must be exactly 9 digits. Provided: %s", ssn));
-        }
-
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.STUDENT_INFO);
     }
 
-    private boolean hasSsnInformation(Application application) {
-        return application.studentInfo() != null && application.studentInfo().ssn() != null;
-    }
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        if (!facts.hasStudentSsn()) {
+            sink.fail(getRuleName(), RuleMessage.SSN_MISSING);
+            return;
+        }
 
+        if (facts.studentSsn() == SsnValidator.UNISSUED_SSN) {
+            sink.fail(getRuleName(), RuleMessage.SSN_UNISSUED, facts.application().studentInfo().ssn());
+            return;
+        }
 
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
-    }
+        if (!facts.studentSsnValid()) {
+            sink.fail(getRuleName(), RuleMessage.SSN_MALFORMED, facts.application().studentInfo().ssn());
+            return;
+        }
 
-    private ValidationDetails buildInvalidResult(String message) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(List.of(buildRuleResult(message)))
-                .build();
+        sink.pass(getRuleName());
     }
 }
@@ -1,69 +1,75 @@
 package com.gdit.technicalassessment.validation.rules;
 
-import com.gdit.technicalassessment.model.Application;
-import com.gdit.technicalassessment.model.RuleResult;
-import com.gdit.technicalassessment.model.UsaState;
-import com.gdit.technicalassessment.model.ValidationDetails;
-import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.reference.CodeTable;
+import com.gdit.technicalassessment.reference.ReferenceCodeSet;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.ParameterizedRule;
+import com.gdit.technicalassessment.validation.RuleParameters;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import com.gdit.technicalassessment.validation.ValidationRule;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Component
-public class StateCodeRule implements ValidationRule {
+public class StateCodeRule implements FactsValidationRule, ParameterizedRule {
+
+    private static final Set<ReferenceCodeSet> DEFAULT_CODE_SETS = EnumSet.of(ReferenceCodeSet.STATE);
+    private final Set<ReferenceCodeSet> codeSets;
+    private final CodeTable acceptedCodes;
+
+    public StateCodeRule() {
+        this(DEFAULT_CODE_SETS);
+    }
+
+    public StateCodeRule(Set<ReferenceCodeSet> codeSets) {
+        this.codeSets = EnumSet.copyOf(codeSets);
+        this.acceptedCodes = codeSets.size() == 1
+                ? codeSets.iterator().next().table()
+                : ReferenceCodeSet.union(this.codeSets);
+    }
 
     @Override
     public String getRuleName() {
         return "STATE_CODE";
     }
 
+    @Override
+    public int getRuleId() {
+        return 6;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
-        String stateCode = application.stateOfResidence();
-
-        if (stateCode == null || stateCode.isEmpty()) {
-            return buildInvalidResult("State of residence is missing");
-        }
-
-        String upperCaseStateCode = stateCode.toUpperCase().trim();
-
-        if (!isValidStateCode(upperCaseStateCode)) {
-            return buildInvalidResult(String.format("Invalid state code. Provided: %s", stateCode));
-        }
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.STATE_OF_RESIDENCE);
+    }
 
-        return ValidationDetails.builder()
-            .status(ValidationStatus.VALID)
-            .passedRules(List.of(buildRuleResult(null)))
-            .build();
+    @Override
+    public ValidationRule withParameters(RuleParameters parameters) {
+        return new StateCodeRule(parameters.enumValues("code-sets", ReferenceCodeSet.class, codeSets));
     }
 
-    private boolean isValidStateCode(String stateCode) {
-        try {
-            UsaState.valueOf(stateCode);
-            return true;
-        } catch (IllegalArgumentException e) {
-            return false;
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        if (!facts.hasStateOfResidence()) {
+            sink.fail(getRuleName(), RuleMessage.STATE_MISSING);
+            return;
         }
-    }
 
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
-    }
+        if (!acceptedCodes.contains(facts.application().stateOfResidence())) {
+            sink.fail(getRuleName(), RuleMessage.STATE_INVALID, facts.application().stateOfResidence());
+            return;
+        }
 
-    private ValidationDetails buildInvalidResult(String message) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(List.of(buildRuleResult(message)))
-                .build();
+        sink.pass(getRuleName());
     }
 }
-
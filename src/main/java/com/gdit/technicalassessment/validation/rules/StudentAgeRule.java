@@ -1,29 +1,44 @@
 package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.Application;
-import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.RuleMessage;
 import com.gdit.technicalassessment.model.ValidationDetails;
-import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.ParameterizedRule;
+import com.gdit.technicalassessment.validation.RuleParameters;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import com.gdit.technicalassessment.validation.ValidationRule;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
 import java.time.Clock;
 import java.time.LocalDate;
-import java.time.Period;
-import java.util.List;
+import java.util.EnumSet;
+import java.util.Set;
 
 @Component
-public class StudentAgeRule implements ValidationRule {
+public class StudentAgeRule implements FactsValidationRule, ParameterizedRule {
 
-    private static final int MINIMUM_AGE = 14;
+    private static final int DEFAULT_MINIMUM_AGE = 14;
+    private static final int MAXIMUM_AGE = 120;
     private final Clock clock;
+    private final int minimumAge;
+    private volatile AgeCutoff todaysCutoff;
 
     public StudentAgeRule() {
         this(Clock.systemUTC());
     }
 
+    @Autowired
     public StudentAgeRule(Clock clock) {
+        this(clock, DEFAULT_MINIMUM_AGE);
+    }
+
+    public StudentAgeRule(Clock clock, int minimumAge) {
         this.clock = clock;
+        this.minimumAge = minimumAge;
     }
 
     @Override
@@ -31,61 +46,70 @@ public class StudentAgeRule implements ValidationRule {
         return "STUDENT_AGE";
     }
 
+    @Override
+    public int getRuleId() {
+        return 1;
+    }
+
     @Override
     public boolean isActive() {
         return true;
     }
 
     @Override
-    public ValidationDetails validate(Application application) {
-        if (!hasDateOfBirth(application)) {
-            return buildInvalidResult("Student date of birth is missing");
-        }
-
-        LocalDate dateOfBirth = application.studentInfo().dateOfBirth();
-        LocalDate now = LocalDate.now(clock);
+    public Set<ApplicationField> getReadFields() {
+        return EnumSet.of(ApplicationField.STUDENT_INFO);
+    }
 
-        if (dateOfBirth.isAfter(now)) {
-            return buildInvalidResult(String.format("Date of birth cannot be in the future: %s", dateOfBirth));
-        }
+    @Override
+    public ValidationRule withParameters(RuleParameters parameters) {
+        return new StudentAgeRule(clock, parameters.intValue("minimum-age", minimumAge, 0, MAXIMUM_AGE));
+    }
 
-        int age = calculateAge(dateOfBirth, now);
+    @Override
+    public ValidationDetails validate(Application application) {
+        return validate(ApplicationFacts.of(application, LocalDate.now(clock)));
+    }
 
-        if (isBelowMinimumAge(age)) {
-            return buildInvalidResult(String.format(
-                    "Student must be at least %d years old. Current age: %d", MINIMUM_AGE, age));
+    @Override
+    public void validate(ApplicationFacts facts, RuleResultSink sink) {
+        if (!facts.hasDateOfBirth()) {
+            sink.fail(getRuleName(), RuleMessage.DATE_OF_BIRTH_MISSING);
+            return;
         }
 
-        return ValidationDetails.builder()
-                .status(ValidationStatus.VALID)
-                .passedRules(List.of(buildRuleResult(null)))
-                .build();
-    }
-
-    private boolean hasDateOfBirth(Application application) {
-        return application.studentInfo() != null && application.studentInfo().dateOfBirth() != null;
-    }
+        if (facts.dateOfBirthInFuture()) {
+            sink.fail(getRuleName(), RuleMessage.DATE_OF_BIRTH_IN_FUTURE,
+                    facts.application().studentInfo().dateOfBirth());
+            return;
+        }
 
-    private int calculateAge(LocalDate dateOfBirth, LocalDate now) {
-        return Period.between(dateOfBirth, now).getYears();
-    }
+        if (facts.dateOfBirthEpochDay() > latestBirthEpochDay(facts.asOfDate())) {
+            sink.fail(getRuleName(), RuleMessage.STUDENT_UNDER_MINIMUM_AGE,
+                    minimumAge, facts.studentAge());
+            return;
+        }
 
-    private boolean isBelowMinimumAge(int age) {
-        return age < MINIMUM_AGE;
+        sink.pass(getRuleName());
     }
 
-    private RuleResult buildRuleResult(String message) {
-        return RuleResult.builder()
-                .ruleName(getRuleName())
-                .message(message)
-                .build();
+    private long latestBirthEpochDay(LocalDate asOfDate) {
+        AgeCutoff today = todaysCutoff;
+        if (today != null && today.asOfDate().equals(asOfDate)) {
+            return today.latestBirthEpochDay();
+        }
+        long latestBirthEpochDay = asOfDate.minusYears(minimumAge).toEpochDay();
+        if (asOfDate.equals(LocalDate.now(clock))) {
+            todaysCutoff = new AgeCutoff(asOfDate, latestBirthEpochDay);
+        }
+        return latestBirthEpochDay;
     }
 
-    private ValidationDetails buildInvalidResult(String message) {
-        return ValidationDetails.builder()
-                .status(ValidationStatus.INVALID)
-                .failedRules(List.of(buildRuleResult(message)))
-                .build();
+    /**
+     * Latest date of birth that still meets the minimum age on the clock's current day, so the per-application
+     * check for live traffic is one comparison. It is replaced once the day rolls over; applications validated
+     * as of any other day compute their cutoff inline and leave it in place.
+     */
+    private record AgeCutoff(LocalDate asOfDate, long latestBirthEpochDay) {
     }
 }
-
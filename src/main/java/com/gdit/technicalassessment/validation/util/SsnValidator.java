@@ -2,24 +2,70 @@ package com.gdit.technicalassessment.validation.util;
 
 public class SsnValidator {
 
-    private static final String SSN_PATTERN = "\\d{9}";
+    /** Returned by {@link #parseSsn} when the input is not nine digits separated only by dashes or whitespace. */
+    public static final long MALFORMED_SSN = -1L;
+
+    /** Returned by {@link #parseSsn} when the digits form a number the SSA never issues. */
+    public static final long UNISSUED_SSN = -2L;
+
+    private static final int SSN_DIGITS = 9;
 
     private SsnValidator() {
         throw new IllegalStateException("Utility class");
     }
 
     public static boolean isValidSsn(String ssn) {
-        if (ssn == null || ssn.isEmpty()) {
-            return false;
+        return parseSsn(ssn) >= 0;
+    }
+
+    /**
+     * Scans the SSN once, skipping dashes and whitespace, and returns its nine digits as a number.
+     * Returns {@link #MALFORMED_SSN} or {@link #UNISSUED_SSN} instead when it is not a valid SSN.
+     */
+    public static long parseSsn(CharSequence ssn) {
+        if (ssn == null) {
+            return MALFORMED_SSN;
         }
 
-        String cleanedSsn = cleanSsn(ssn);
-        return cleanedSsn.matches(SSN_PATTERN);
+        long value = 0;
+        int digits = 0;
+        for (int i = 0, length = ssn.length(); i < length; i++) {
+            char c = ssn.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (++digits > SSN_DIGITS) {
+                    return MALFORMED_SSN;
+                }
+                value = value * 10 + (c - '0');
+            } else if (!isSeparator(c)) {
+                return MALFORMED_SSN;
+            }
+        }
+
+        if (digits != SSN_DIGITS) {
+            return MALFORMED_SSN;
+        }
+
+        long area = value / 1_000_000;
+        long group = value / 10_000 % 100;
+        long serial = value % 10_000;
+        if (area == 0 || area == 666 || area >= 900 || group == 0 || serial == 0) {
+            return UNISSUED_SSN;
+        }
+        return value;
     }
 
     public static String cleanSsn(String ssn) {
-        //return ssn.trim().replaceAll("[\\s-]", "");
-        return ssn.replaceAll("[\\s-]", "");
+        StringBuilder cleaned = new StringBuilder(ssn.length());
+        for (int i = 0; i < ssn.length(); i++) {
+            char c = ssn.charAt(i);
+            if (!isSeparator(c)) {
+                cleaned.append(c);
+            }
+        }
+        return cleaned.toString();
     }
-}
 
+    private static boolean isSeparator(char c) {
+        return c == '-' || c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+}
@@ -0,0 +1,119 @@
+package com.gdit.technicalassessment.config;
+
+import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.service.ApplicationValidationService;
+import com.gdit.technicalassessment.validation.rules.StateCodeRule;
+import com.gdit.technicalassessment.validation.rules.StudentAgeRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleConfigurationWatcherTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Path configFile;
+    private ApplicationValidationService service;
+    private RuleConfigurationWatcher watcher;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        configFile = tempDir.resolve("rules.properties");
+        service = new ApplicationValidationService(List.of(new StudentAgeRule(), new StateCodeRule()));
+        application = Application.builder()
+                .studentInfo(StudentInfo.builder().dateOfBirth(LocalDate.now().minusYears(15)).build())
+                .stateOfResidence("XX")
+                .build();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void startAppliesConfigurationFromFile() throws IOException {
+        Files.writeString(configFile, "STATE_CODE.active=false\nSTUDENT_AGE.minimum-age=16\n");
+        watcher = new RuleConfigurationWatcher(configFile, false, service::applyRuleConfiguration);
+
+        watcher.start();
+        ValidationDetails result = service.validateApplication(application);
+
+        assertEquals(1, result.failedRules().size());
+        assertEquals("STUDENT_AGE", result.failedRules().get(0).ruleName());
+    }
+
+    @Test
+    void invalidFileKeepsCurrentRules() throws IOException {
+        Files.writeString(configFile, "STATE_CODE.active=false\n");
+        watcher = new RuleConfigurationWatcher(configFile, false, service::applyRuleConfiguration);
+        watcher.start();
+
+        Files.writeString(configFile, "STATE_CODE.active=sometimes\n");
+
+        assertFalse(watcher.reload());
+        assertTrue(service.validateApplication(application).failedRules().isEmpty());
+    }
+
+    @Test
+    void emptySnapshotKeepsCurrentRules() throws IOException {
+        Files.writeString(configFile, "STATE_CODE.active=false\n");
+        watcher = new RuleConfigurationWatcher(configFile, false, service::applyRuleConfiguration);
+        watcher.start();
+
+        Files.writeString(configFile, "");
+
+        assertFalse(watcher.reload());
+        assertTrue(service.validateApplication(application).failedRules().isEmpty());
+    }
+
+    @Test
+    void outOfRangeParameterKeepsCurrentRules() throws IOException {
+        Files.writeString(configFile, "STATE_CODE.active=false\n");
+        watcher = new RuleConfigurationWatcher(configFile, false, service::applyRuleConfiguration);
+        watcher.start();
+
+        Files.writeString(configFile, "STATE_CODE.active=false\nSTUDENT_AGE.minimum-age=-1\n");
+
+        assertFalse(watcher.reload());
+        assertTrue(service.validateApplication(application).failedRules().isEmpty());
+    }
+
+    @Test
+    void missingFileKeepsDefaultRules() throws IOException {
+        watcher = new RuleConfigurationWatcher(configFile, false, service::applyRuleConfiguration);
+
+        watcher.start();
+
+        assertEquals(1, service.validateApplication(application).failedRules().size());
+    }
+
+    @Test
+    void changesToWatchedFileAreApplied() throws Exception {
+        Files.writeString(configFile, "STATE_CODE.active=true\n");
+        watcher = new RuleConfigurationWatcher(configFile, true, service::applyRuleConfiguration);
+        watcher.start();
+
+        Files.writeString(configFile, "STATE_CODE.active=false\n");
+
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!service.validateApplication(application).failedRules().isEmpty()
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(50);
+        }
+        assertTrue(service.validateApplication(application).failedRules().isEmpty());
+    }
+}
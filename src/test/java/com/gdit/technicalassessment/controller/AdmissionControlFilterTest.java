@@ -0,0 +1,124 @@
+package com.gdit.technicalassessment.controller;
+
+import com.gdit.technicalassessment.service.AdaptiveConcurrencyLimiter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdmissionControlFilterTest {
+
+    private AdaptiveConcurrencyLimiter limiter;
+    private AdmissionControlFilter filter;
+    private AtomicInteger forwarded;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(1, 1, 1, Duration.ofSeconds(10), 0.5);
+        filter = new AdmissionControlFilter(limiter, Duration.ofMillis(1500));
+        forwarded = new AtomicInteger();
+        chain = (request, response) -> forwarded.incrementAndGet();
+    }
+
+    @Test
+    void requestsBeyondTheLimitGet429WithRetryAfter() throws Exception {
+        assertTrue(limiter.tryAcquire());
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "/api/v1/applications/validate"), response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals("2", response.getHeader("Retry-After"));
+        assertEquals(0, forwarded.get());
+        assertEquals(1, limiter.stats().rejected());
+    }
+
+    @Test
+    void admittedRequestsReleaseTheirPermitOnCompletion() throws Exception {
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "/api/v1/applications/validate"), response, chain);
+        filter.doFilter(request("POST", "/api/v1/applications/validate/batch"), response, chain);
+
+        assertEquals(200, response.getStatus());
+        assertEquals(2, forwarded.get());
+        assertEquals(0, limiter.stats().inFlight());
+        assertEquals(2, limiter.stats().admitted());
+    }
+
+    @Test
+    void permitIsReleasedWhenTheRequestFails() {
+        FilterChain failing = (request, response) -> {
+            throw new ServletException("boom");
+        };
+
+        assertThrows(ServletException.class, () -> filter.doFilter(
+                request("POST", "/api/v1/applications/validate"), new MockHttpServletResponse(),
+                failing));
+
+        assertEquals(0, limiter.stats().inFlight());
+        assertTrue(limiter.tryAcquire());
+    }
+
+    @Test
+    void ruleSetValidationEndpointIsLimited() throws Exception {
+        assertTrue(limiter.tryAcquire());
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(request("POST", "/api/v1/applications/rule-sets/2025-26/validate"),
+                response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals(0, forwarded.get());
+    }
+
+    @Test
+    void pathsAreMatchedWithinTheServletContext() throws Exception {
+        assertTrue(limiter.tryAcquire());
+        var underContextPath = new MockHttpServletRequest("POST", "/aid/api/v1/applications/validate");
+        underContextPath.setContextPath("/aid");
+        underContextPath.setServletPath("/api/v1/applications/validate");
+        var underServletMapping = new MockHttpServletRequest("POST", "/api/v1/applications/validate");
+        underServletMapping.setServletPath("/api/v1");
+        underServletMapping.setPathInfo("/applications/validate");
+        var response = new MockHttpServletResponse();
+
+        filter.doFilter(underContextPath, response, chain);
+        filter.doFilter(underServletMapping, response, chain);
+
+        assertEquals(429, response.getStatus());
+        assertEquals(0, forwarded.get());
+        assertEquals(2, limiter.stats().rejected());
+    }
+
+    @Test
+    void readOnlyAndNonValidationRequestsAreNeverLimited() throws Exception {
+        assertTrue(limiter.tryAcquire());
+
+        filter.doFilter(request("GET", "/api/v1/applications/validate/admission/stats"),
+                new MockHttpServletResponse(), chain);
+        filter.doFilter(request("GET", "/api/v1/applications/rule-sets/2025-26/rule-ids"),
+                new MockHttpServletResponse(), chain);
+        filter.doFilter(request("POST", "/api/v1/applications/jobs"),
+                new MockHttpServletResponse(), chain);
+        filter.doFilter(request("POST", "/api/v1/applications/rule-sets//validate"),
+                new MockHttpServletResponse(), chain);
+
+        assertEquals(4, forwarded.get());
+        assertEquals(0, limiter.stats().rejected());
+    }
+
+    private static MockHttpServletRequest request(String method, String path) {
+        var request = new MockHttpServletRequest(method, path);
+        request.setServletPath(path);
+        return request;
+    }
+}
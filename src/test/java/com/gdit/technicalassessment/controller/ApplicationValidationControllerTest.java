@@ -0,0 +1,161 @@
+package com.gdit.technicalassessment.controller;
+
+import com.gdit.technicalassessment.config.BinaryContentConfig;
+import com.gdit.technicalassessment.config.StringToResponseViewConverter;
+import com.gdit.technicalassessment.config.StringToValidationModeConverter;
+import com.gdit.technicalassessment.config.ValidationLoggingProperties;
+import com.gdit.technicalassessment.logging.ValidationOutcomeLogger;
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.BatchApplication;
+import com.gdit.technicalassessment.model.BatchRecordResult;
+import com.gdit.technicalassessment.model.BatchSummary;
+import com.gdit.technicalassessment.model.BatchValidationResponse;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.service.ApplicationValidationService;
+import com.gdit.technicalassessment.service.StreamingValidationService;
+import com.gdit.technicalassessment.validation.rules.StateCodeRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.format.support.DefaultFormattingConversionService;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.JacksonJsonHttpMessageConverter;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ApplicationValidationControllerTest {
+
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final SmileMapper smileMapper = SmileMapper.builder().build();
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        var validationService = new ApplicationValidationService(List.of(new StateCodeRule()));
+        var controller = new ApplicationValidationController(validationService,
+                new StreamingValidationService(validationService, new ObjectMapper()),
+                new ValidationOutcomeLogger(new ValidationLoggingProperties(0.0)), Optional.empty());
+        var conversionService = new DefaultFormattingConversionService();
+        conversionService.addConverter(new StringToValidationModeConverter());
+        conversionService.addConverter(new StringToResponseViewConverter());
+        var binaryContent = new BinaryContentConfig();
+
+        mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .setConversionService(conversionService)
+                .setMessageConverters(new JacksonJsonHttpMessageConverter(),
+                        binaryContent.cborHttpMessageConverter(), binaryContent.smileHttpMessageConverter())
+                .build();
+    }
+
+    @Test
+    void singleApplicationRoundTripsAsCbor() throws Exception {
+        assertSingleRoundTrip(cborMapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void singleApplicationRoundTripsAsSmile() throws Exception {
+        assertSingleRoundTrip(smileMapper, BinaryContentConfig.APPLICATION_SMILE);
+    }
+
+    @Test
+    void batchRoundTripsAsCbor() throws Exception {
+        assertBatchRoundTrip(cborMapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void batchRoundTripsAsSmile() throws Exception {
+        assertBatchRoundTrip(smileMapper, BinaryContentConfig.APPLICATION_SMILE);
+    }
+
+    @Test
+    void streamRoundTripsAsCbor() throws Exception {
+        assertStreamRoundTrip(cborMapper, MediaType.APPLICATION_CBOR, cborMapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void streamRoundTripsAsSmile() throws Exception {
+        assertStreamRoundTrip(smileMapper, BinaryContentConfig.APPLICATION_SMILE,
+                smileMapper, BinaryContentConfig.APPLICATION_SMILE);
+    }
+
+    @Test
+    void streamResultFormatIsNegotiatedFromAccept() throws Exception {
+        assertStreamRoundTrip(cborMapper, MediaType.APPLICATION_CBOR,
+                smileMapper, BinaryContentConfig.APPLICATION_SMILE);
+    }
+
+    private void assertSingleRoundTrip(ObjectMapper mapper, MediaType mediaType) throws Exception {
+        byte[] valid = exchange("/api/v1/applications/validate", mediaType,
+                mapper.writeValueAsBytes(application("VA")), mediaType);
+        byte[] invalid = exchange("/api/v1/applications/validate", mediaType,
+                mapper.writeValueAsBytes(application("ZZ")), mediaType);
+
+        assertEquals(ValidationStatus.VALID, mapper.readValue(valid, ValidationDetails.class).status());
+        ValidationDetails details = mapper.readValue(invalid, ValidationDetails.class);
+        assertEquals(ValidationStatus.INVALID, details.status());
+        assertEquals("STATE_CODE", details.failedRules().get(0).ruleName());
+    }
+
+    private void assertBatchRoundTrip(ObjectMapper mapper, MediaType mediaType) throws Exception {
+        List<BatchApplication> batch = List.of(
+                new BatchApplication("a-1", application("VA")),
+                new BatchApplication("a-2", application("ZZ")),
+                new BatchApplication("a-3", application("MD")));
+
+        byte[] response = exchange("/api/v1/applications/validate/batch", mediaType,
+                mapper.writeValueAsBytes(batch), mediaType);
+
+        BatchValidationResponse result = mapper.readValue(response, BatchValidationResponse.class);
+        assertEquals(new BatchSummary(3, 2, 1), result.summary());
+        assertEquals(List.of("a-1", "a-2", "a-3"), result.results().stream().map(BatchRecordResult::id).toList());
+        assertEquals(ValidationStatus.INVALID, result.results().get(1).details().status());
+    }
+
+    private void assertStreamRoundTrip(ObjectMapper requestMapper, MediaType requestType,
+                                       ObjectMapper responseMapper, MediaType responseType) throws Exception {
+        var body = new ByteArrayOutputStream();
+        try (SequenceWriter writer = requestMapper.writerFor(Application.class).writeValues(body)) {
+            writer.write(application("VA"));
+            writer.write(application("ZZ"));
+            writer.write(application("MD"));
+        }
+
+        byte[] response = exchange("/api/v1/applications/validate/stream", requestType, body.toByteArray(),
+                responseType);
+
+        List<ValidationStatus> statuses = new ArrayList<>();
+        try (MappingIterator<ValidationDetails> results = responseMapper.readerFor(ValidationDetails.class)
+                .readValues(new ByteArrayInputStream(response))) {
+            results.forEachRemaining(details -> statuses.add(details.status()));
+        }
+        assertEquals(List.of(ValidationStatus.VALID, ValidationStatus.INVALID, ValidationStatus.VALID), statuses);
+    }
+
+    private byte[] exchange(String path, MediaType contentType, byte[] body, MediaType accept) throws Exception {
+        MvcResult result = mockMvc.perform(post(path).contentType(contentType).accept(accept).content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertTrue(accept.isCompatibleWith(MediaType.parseMediaType(result.getResponse().getContentType())));
+        return result.getResponse().getContentAsByteArray();
+    }
+
+    private static Application application(String state) {
+        return Application.builder().stateOfResidence(state).build();
+    }
+}
@@ -0,0 +1,67 @@
+package com.gdit.technicalassessment.logging;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.SpouseInfo;
+import com.gdit.technicalassessment.model.StudentInfo;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PiiMaskingTest {
+
+    @Test
+    void ssnKeepsOnlyItsLastFourDigits() {
+        assertEquals("***-**-6789", PiiMasking.appendSsn(new StringBuilder(), "123456789").toString());
+        assertEquals("***-**-6789", PiiMasking.appendSsn(new StringBuilder(), "123-45-6789").toString());
+        assertEquals("***-**-6789", PiiMasking.appendSsn(new StringBuilder(), "123 45 67-89").toString());
+    }
+
+    @Test
+    void shortOrMissingSsnIsFullyMasked() {
+        assertEquals("****", PiiMasking.appendSsn(new StringBuilder(), "12a").toString());
+        assertEquals("****", PiiMasking.appendSsn(new StringBuilder(), "").toString());
+        assertEquals("null", PiiMasking.appendSsn(new StringBuilder(), null).toString());
+    }
+
+    @Test
+    void namesKeepTheirInitialAndDatesOfBirthTheirYear() {
+        assertEquals("J.", PiiMasking.appendName(new StringBuilder(), "Jane").toString());
+        assertEquals("", PiiMasking.appendName(new StringBuilder(), "").toString());
+        assertEquals("2003-**-**",
+                PiiMasking.appendDateOfBirth(new StringBuilder(), LocalDate.of(2003, 5, 15)).toString());
+    }
+
+    @Test
+    void freeTextMasksEveryRunOfNineOrMoreDigits() {
+        assertEquals("Unrecognized token '***-**-6789': line 1, column 12",
+                PiiMasking.appendText(new StringBuilder(),
+                        "Unrecognized token '123-45-6789': line 1, column 12").toString());
+        assertEquals("ssn=***-**-6789- id=2026-27",
+                PiiMasking.appendText(new StringBuilder(), "ssn=123456789- id=2026-27").toString());
+        assertEquals("null", PiiMasking.appendText(new StringBuilder(), null).toString());
+    }
+
+    @Test
+    void applicationToStringNeverContainsFullPersonalFields() {
+        Application application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .firstName("Jane")
+                        .lastName("Smith")
+                        .ssn("123456789")
+                        .dateOfBirth(LocalDate.of(2003, 5, 15))
+                        .build())
+                .spouseInfo(new SpouseInfo("John", "Smith", "987-65-4321"))
+                .build();
+
+        String logged = application.toString();
+
+        assertTrue(logged.contains(
+                "StudentInfo[firstName=J., lastName=S., ssn=***-**-6789, dateOfBirth=2003-**-**]"), logged);
+        assertTrue(logged.contains("SpouseInfo[firstName=J., lastName=S., ssn=***-**-4321]"), logged);
+        assertFalse(logged.contains("123456789"));
+        assertFalse(logged.contains("Jane"));
+        assertFalse(logged.contains("987-65"));
+    }
+}
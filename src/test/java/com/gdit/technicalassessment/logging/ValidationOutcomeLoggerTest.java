@@ -0,0 +1,27 @@
+package com.gdit.technicalassessment.logging;
+
+import com.gdit.technicalassessment.model.ValidationStatus;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationOutcomeLoggerTest {
+
+    @Test
+    void invalidOutcomesAreAlwaysLogged() {
+        var logger = new ValidationOutcomeLogger(0.0, () -> 0.0);
+
+        assertTrue(logger.shouldLog(ValidationStatus.INVALID));
+        assertFalse(logger.shouldLog(ValidationStatus.VALID));
+    }
+
+    @Test
+    void validOutcomesAreSampled() {
+        var logger = new ValidationOutcomeLogger(0.25, () -> 0.5);
+        var sampledLogger = new ValidationOutcomeLogger(0.25, () -> 0.1);
+
+        assertFalse(logger.shouldLog(ValidationStatus.VALID));
+        assertTrue(sampledLogger.shouldLog(ValidationStatus.VALID));
+        assertTrue(new ValidationOutcomeLogger(1.0, () -> 0.99).shouldLog(ValidationStatus.VALID));
+    }
+}
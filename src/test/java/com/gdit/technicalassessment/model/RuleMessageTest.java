@@ -0,0 +1,99 @@
+package com.gdit.technicalassessment.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
+
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleMessageTest {
+
+    private static final Locale SPANISH = Locale.forLanguageTag("es");
+
+    @AfterEach
+    void resetLocale() {
+        LocaleContextHolder.resetLocaleContext();
+    }
+
+    @Test
+    void everyMessageHasEnglishAndSpanishTemplates() {
+        Object[] arguments = {"a", "b"};
+        for (RuleMessage message : RuleMessage.values()) {
+            String english = message.render(Locale.ROOT, arguments);
+            String spanish = message.render(SPANISH, arguments);
+
+            assertFalse(english.isBlank(), message.key());
+            assertNotEquals(english, spanish, message.key());
+            assertFalse(english.contains("{"), message.key());
+            assertFalse(spanish.contains("{"), message.key());
+        }
+    }
+
+    @Test
+    void rendersArgumentsPositionally() {
+        assertEquals("Number in college (5) cannot exceed number in household (3)",
+                RuleMessage.HOUSEHOLD_COLLEGE_EXCEEDS_SIZE.render(Locale.ROOT, 5, 3));
+        assertEquals("Date of birth cannot be in the future: 2030-01-15",
+                RuleMessage.DATE_OF_BIRTH_IN_FUTURE.render(Locale.ENGLISH, LocalDate.of(2030, 1, 15)));
+        assertEquals("El estudiante debe tener al menos 14 a\u00f1os. Edad actual: 12",
+                RuleMessage.STUDENT_UNDER_MINIMUM_AGE.render(Locale.forLanguageTag("es-MX"), 14, 12));
+    }
+
+    @Test
+    void unsupportedLocalesFallBackToEnglish() {
+        assertEquals("Student SSN is missing", RuleMessage.SSN_MISSING.render(Locale.FRENCH));
+        assertEquals("Student SSN is missing", RuleMessage.SSN_MISSING.render(null));
+    }
+
+    @Test
+    void failedResultRendersInTheCurrentLocaleWhenRead() {
+        RuleResult result = RuleResult.failed("STATE_CODE", RuleMessage.STATE_INVALID, "ZZ");
+
+        LocaleContextHolder.setLocale(SPANISH);
+        assertEquals("C\u00f3digo de estado no v\u00e1lido. Valor proporcionado: ZZ", result.message());
+
+        LocaleContextHolder.setLocale(Locale.US);
+        assertEquals("Invalid state code. Provided: ZZ", result.message());
+    }
+
+    @Test
+    void failedResultEqualsTheEnglishLiteral() {
+        LocaleContextHolder.setLocale(SPANISH);
+
+        RuleResult templated = RuleResult.failed("SSN_FORMAT", RuleMessage.SSN_MALFORMED, "12345");
+        RuleResult literal = new RuleResult("SSN_FORMAT", "SSN must be exactly 9 digits. Provided: 12345");
+
+        assertEquals(literal, templated);
+        assertEquals(literal.hashCode(), templated.hashCode());
+    }
+
+    @Test
+    void templatedResultsCompareWithoutRendering() {
+        int[] renders = {0};
+        RuleMessageTemplate template = (locale, arguments) -> {
+            renders[0]++;
+            return "rendered";
+        };
+
+        RuleResult first = RuleResult.failed("RULE", template, "a", 1);
+        RuleResult same = RuleResult.failed("RULE", template, "a", 1);
+        RuleResult otherArguments = RuleResult.failed("RULE", template, "b", 1);
+
+        assertEquals(first, same);
+        assertEquals(first.hashCode(), same.hashCode());
+        assertNotEquals(first, otherArguments);
+        assertNotEquals(first, RuleResult.failed("RULE", RuleMessage.SSN_MISSING));
+        assertNotEquals(first, RuleResult.passed("RULE"));
+        assertTrue(first.toString().contains("arguments=[a, 1]"));
+        assertEquals(0, renders[0]);
+    }
+
+    @Test
+    void passedResultsAreSharedPerRuleNameAndAllowAMissingName() {
+        assertSame(RuleResult.passed("RULE"), RuleResult.passed("RULE"));
+        assertEquals(RuleResult.builder().build(), RuleResult.passed(null));
+    }
+}
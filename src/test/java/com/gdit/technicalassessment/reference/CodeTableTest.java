@@ -0,0 +1,64 @@
+package com.gdit.technicalassessment.reference;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeTableTest {
+
+    @Test
+    void lookupIsCaseInsensitiveAndIgnoresSurroundingWhitespace() {
+        var table = CodeTable.of("test", List.of("MI", "FL", "NY"));
+
+        assertEquals(0, table.indexOf("MI"));
+        assertEquals(1, table.indexOf("fl"));
+        assertEquals(2, table.indexOf("  Ny  "));
+        assertEquals("FL", table.codeAt(1));
+        assertEquals(3, table.size());
+    }
+
+    @Test
+    void absentCodesAreNotFound() {
+        var table = CodeTable.of("test", List.of("MI", "FL", "NY"));
+
+        assertFalse(table.contains(null));
+        assertFalse(table.contains(""));
+        assertFalse(table.contains("   "));
+        assertFalse(table.contains("M"));
+        assertFalse(table.contains("MIC"));
+        assertFalse(table.contains("XX"));
+        assertFalse(table.contains("M I"));
+    }
+
+    @Test
+    void everyCodeOfALargeTableIsFound() {
+        List<String> codes = new ArrayList<>();
+        for (String country : Locale.getISOCountries(Locale.IsoCountryCode.PART1_ALPHA3)) {
+            codes.add(country);
+        }
+        var table = CodeTable.of("alpha3", codes);
+
+        for (int i = 0; i < codes.size(); i++) {
+            assertEquals(i, table.indexOf(codes.get(i).toLowerCase(Locale.ROOT)));
+        }
+        assertFalse(table.contains("ZZZ"));
+    }
+
+    @Test
+    void emptyTableFindsNothing() {
+        var table = CodeTable.of("empty", List.of());
+
+        assertEquals(0, table.size());
+        assertFalse(table.contains("AL"));
+    }
+
+    @Test
+    void blankAndDuplicateCodesAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> CodeTable.of("test", List.of("AL", " ")));
+        assertThrows(IllegalArgumentException.class, () -> CodeTable.of("test", List.of("AL", "al")));
+    }
+}
@@ -0,0 +1,37 @@
+package com.gdit.technicalassessment.reference;
+
+import com.gdit.technicalassessment.model.UsaState;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReferenceCodeSetTest {
+
+    @Test
+    void codeSetsAreLoadedFromTheClasspath() {
+        assertEquals(50, ReferenceCodeSet.STATE.table().size());
+        assertEquals(1, ReferenceCodeSet.DISTRICT.table().size());
+        assertTrue(ReferenceCodeSet.TERRITORY.table().contains("PR"));
+        assertTrue(ReferenceCodeSet.MILITARY.table().contains("ap"));
+        assertTrue(ReferenceCodeSet.COUNTRY.table().contains("MX"));
+        assertFalse(ReferenceCodeSet.COUNTRY.table().contains("Mexico"));
+    }
+
+    @Test
+    void stateCodeSetMatchesUsaState() {
+        assertEquals(Arrays.stream(UsaState.values()).map(UsaState::name).toList(),
+                ReferenceCodeSet.STATE.table().codes());
+    }
+
+    @Test
+    void unionAcceptsCodesFromEverySet() {
+        var table = ReferenceCodeSet.union(EnumSet.of(ReferenceCodeSet.STATE, ReferenceCodeSet.COUNTRY));
+
+        assertTrue(table.contains("WY"));
+        assertTrue(table.contains("FR"));
+        assertFalse(table.contains("DC"));
+    }
+}
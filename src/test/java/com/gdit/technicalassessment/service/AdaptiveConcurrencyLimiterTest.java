@@ -0,0 +1,141 @@
+package com.gdit.technicalassessment.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration TARGET = Duration.ofMillis(100);
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofMillis(500).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    void requestsBeyondTheLimitAreRejected() {
+        var limiter = new AdaptiveConcurrencyLimiter(2, 1, 10, TARGET, 0.5, now::get);
+
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        assertFalse(limiter.tryAcquire());
+
+        limiter.releaseWithoutSample();
+        assertTrue(limiter.tryAcquire());
+
+        var stats = limiter.stats();
+        assertEquals(2, stats.limit());
+        assertEquals(2, stats.inFlight());
+        assertEquals(3, stats.admitted());
+        assertEquals(1, stats.rejected());
+    }
+
+    @Test
+    void fastRequestsRaiseTheLimitAdditively() {
+        var limiter = new AdaptiveConcurrencyLimiter(4, 1, 10, TARGET, 0.5, now::get);
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.release(FAST);
+        }
+
+        assertEquals(5, limiter.limit());
+    }
+
+    @Test
+    void slowRequestsCutTheLimitOncePerTargetInterval() {
+        var limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, TARGET, 0.5, now::get);
+
+        limiter.tryAcquire();
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        limiter.release(SLOW);
+        assertEquals(4, limiter.limit());
+
+        now.addAndGet(TARGET.toNanos());
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertEquals(2, limiter.limit());
+    }
+
+    @Test
+    void concurrentSlowRequestsCutTheLimitOnlyOnce() throws Exception {
+        var limiter = new AdaptiveConcurrencyLimiter(8, 1, 10, TARGET, 0.5, now::get);
+        for (int i = 0; i < 8; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+
+        runConcurrently(8, () -> limiter.release(SLOW));
+
+        assertEquals(4, limiter.limit());
+        assertEquals(0, limiter.stats().inFlight());
+    }
+
+    @Test
+    void concurrentFastRequestsRaiseTheLimitToTheMaximum() throws Exception {
+        var limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, TARGET, 0.5, now::get);
+
+        runConcurrently(4, () -> {
+            for (int i = 0; i < 500; i++) {
+                if (limiter.tryAcquire()) {
+                    limiter.release(FAST);
+                }
+            }
+        });
+
+        assertEquals(10, limiter.limit());
+        assertEquals(0, limiter.stats().inFlight());
+    }
+
+    @Test
+    void limitStaysWithinBounds() {
+        var limiter = new AdaptiveConcurrencyLimiter(2, 2, 3, TARGET, 0.5, now::get);
+
+        limiter.tryAcquire();
+        limiter.release(SLOW);
+        assertEquals(2, limiter.limit());
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(FAST);
+        }
+        assertEquals(3, limiter.limit());
+    }
+
+    @Test
+    void invalidBoundsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(4, 8, 4, TARGET, 0.5));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AdaptiveConcurrencyLimiter(4, 1, 8, TARGET, 1.0));
+    }
+
+    private static void runConcurrently(int threads, Runnable task) throws InterruptedException {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                task.run();
+            });
+            worker.start();
+            workers.add(worker);
+        }
+        start.countDown();
+        for (Thread worker : workers) {
+            worker.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+}
@@ -1,14 +1,47 @@
 package com.gdit.technicalassessment.service;
 
+import com.gdit.technicalassessment.config.BatchValidationProperties;
+import com.gdit.technicalassessment.config.RuleSetProperties;
 import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.RuleParameters;
+import com.gdit.technicalassessment.validation.RuleResultSink;
 import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.engine.ParallelRuleEvaluator;
+import com.gdit.technicalassessment.validation.rules.SsnRule;
+import com.gdit.technicalassessment.validation.rules.StateCodeRule;
+import com.gdit.technicalassessment.validation.rules.StudentAgeRule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.i18n.LocaleContextHolder;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -183,6 +216,52 @@ class ApplicationValidationServiceTest {
         verify(mockRule2, never()).validate(any());
     }
 
+    @Test
+    void shouldNotCheckRuleActivationPerApplication() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+
+        service = new ApplicationValidationService(List.of(mockRule1));
+
+        service.validateApplication(testApplication);
+        service.validateApplication(testApplication);
+
+        verify(mockRule1, times(1)).isActive();
+        verify(mockRule1, times(2)).validate(testApplication);
+    }
+
+    @Test
+    void shouldApplyActivationChangesAfterPlanRefresh() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build();
+
+        ValidationDetails rule2Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_2").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+        when(mockRule2.validate(testApplication)).thenReturn(rule2Result);
+
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2));
+
+        when(mockRule2.isActive()).thenReturn(false);
+        assertEquals(2, service.validateApplication(testApplication).passedRules().size());
+
+        service.refreshPlan();
+
+        ValidationDetails result = service.validateApplication(testApplication);
+
+        assertEquals(1, result.passedRules().size());
+        assertEquals("RULE_1", result.passedRules().get(0).ruleName());
+    }
+
     @Test
     void shouldHandleRulesWithNullPassedRulesList() {
         ValidationDetails rule1Result = ValidationDetails.builder()
@@ -318,6 +397,231 @@ class ApplicationValidationServiceTest {
         assertEquals("RULE_3", result.failedRules().get(2).ruleName());
     }
 
+    @Test
+    void shouldMergeParallelResultsInRuleOrder() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_1").message("First error").build()))
+                .build();
+
+        ValidationDetails rule2Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_2").build()))
+                .build();
+
+        ValidationDetails rule3Result = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_3").message("Third error").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+        when(mockRule2.validate(testApplication)).thenReturn(rule2Result);
+        when(mockRule3.validate(testApplication)).thenReturn(rule3Result);
+
+        ParallelRuleEvaluator evaluator = new ParallelRuleEvaluator(Executors.newFixedThreadPool(2));
+        try {
+            service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2, mockRule3),
+                    Optional.of(evaluator), ForkJoinPool.commonPool(), BatchValidationProperties.defaults(),
+                    Clock.systemUTC(), Optional.empty(), Optional.empty(), Optional.empty(),
+                    RuleSetProperties.defaults());
+
+            ValidationDetails result = service.validateApplication(testApplication);
+
+            assertEquals(ValidationStatus.INVALID, result.status());
+            assertEquals(1, result.passedRules().size());
+            assertEquals(2, result.failedRules().size());
+            assertEquals("RULE_1", result.failedRules().get(0).ruleName());
+            assertEquals("RULE_3", result.failedRules().get(1).ruleName());
+        } finally {
+            evaluator.shutdown();
+        }
+    }
+
+    @Test
+    void shouldValidateBatchInInputOrder() {
+        ValidationRule stateRule = stateEchoRule();
+        service = new ApplicationValidationService(List.of(stateRule), Optional.empty(),
+                new ForkJoinPool(4), new BatchValidationProperties(4, 8, 16, 10000, 256), Clock.systemUTC(), Optional.empty(),
+                Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+
+        List<Application> applications = IntStream.range(0, 500)
+                .mapToObj(i -> Application.builder().stateOfResidence("S" + i).build())
+                .collect(Collectors.toList());
+
+        List<ValidationDetails> results = service.validateAll(applications);
+
+        assertEquals(500, results.size());
+        for (int i = 0; i < 500; i++) {
+            assertEquals("S" + i, results.get(i).passedRules().get(0).message());
+        }
+    }
+
+    @Test
+    void shouldValidateSmallBatchWithoutForking() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_1").message("Rule 1 failed").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+
+        service = new ApplicationValidationService(List.of(mockRule1));
+
+        List<ValidationDetails> results = service.validateAll(List.of(testApplication, testApplication));
+
+        assertEquals(2, results.size());
+        assertEquals(ValidationStatus.INVALID, results.get(0).status());
+        assertEquals(ValidationStatus.INVALID, results.get(1).status());
+        verify(mockRule1, times(2)).validate(testApplication);
+    }
+
+    @Test
+    void shouldReturnEmptyResultsForEmptyBatch() {
+        service = new ApplicationValidationService(List.of(mockRule1));
+
+        assertTrue(service.validateAll(List.of()).isEmpty());
+        verify(mockRule1, never()).validate(any());
+    }
+
+    @Test
+    void shouldValidateStreamInChunksPreservingOrder() {
+        ValidationRule stateRule = stateEchoRule();
+        service = new ApplicationValidationService(List.of(stateRule), Optional.empty(),
+                ForkJoinPool.commonPool(), new BatchValidationProperties(0, 4, 10, 10000, 256), Clock.systemUTC(),
+                Optional.empty(), Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+
+        List<String> states = service.validateAll(IntStream.range(0, 95)
+                        .mapToObj(i -> Application.builder().stateOfResidence("S" + i).build()))
+                .map(details -> details.passedRules().get(0).message())
+                .collect(Collectors.toList());
+
+        assertEquals(95, states.size());
+        assertEquals("S0", states.get(0));
+        assertEquals("S94", states.get(94));
+    }
+
+    @Test
+    void shouldValidateEmptyStream() {
+        service = new ApplicationValidationService(List.of(mockRule1));
+
+        assertEquals(0, service.validateAll(Stream.<Application>empty()).count());
+    }
+
+    @Test
+    void shouldStopAtFirstFailureInFirstFailureMode() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build();
+
+        ValidationDetails rule2Result = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_2").message("Rule 2 failed").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+        when(mockRule2.validate(testApplication)).thenReturn(rule2Result);
+
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2, mockRule3));
+
+        ValidationDetails result = service.validateApplication(testApplication, ValidationMode.FIRST_FAILURE);
+
+        assertEquals(ValidationStatus.INVALID, result.status());
+        assertEquals(1, result.passedRules().size());
+        assertEquals(1, result.failedRules().size());
+        assertEquals("RULE_2", result.failedRules().get(0).ruleName());
+        verify(mockRule3, never()).validate(any());
+    }
+
+    @Test
+    void shouldRunAllRulesInFirstFailureModeWhenAllPass() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build();
+
+        ValidationDetails rule2Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_2").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+        when(mockRule2.validate(testApplication)).thenReturn(rule2Result);
+
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2));
+
+        ValidationDetails result = service.validateApplication(testApplication, ValidationMode.FIRST_FAILURE);
+
+        assertEquals(ValidationStatus.VALID, result.status());
+        assertEquals(2, result.passedRules().size());
+        assertTrue(result.failedRules().isEmpty());
+    }
+
+    @Test
+    void shouldCollectAllFailuresByDefault() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_1").message("Rule 1 failed").build()))
+                .build();
+
+        ValidationDetails rule2Result = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_2").message("Rule 2 failed").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+        when(mockRule2.validate(testApplication)).thenReturn(rule2Result);
+
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2));
+
+        ValidationDetails result = service.validateApplication(testApplication, ValidationMode.COLLECT_ALL);
+
+        assertEquals(2, result.failedRules().size());
+    }
+
+    @Test
+    void shouldRecordNonApplicableRulesWithoutCallingThem() {
+        when(mockRule2.getApplicability()).thenReturn(
+                profile -> profile.dependencyStatus() != DependencyStatus.DEPENDENT);
+
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build();
+
+        when(mockRule1.validate(testApplication)).thenReturn(rule1Result);
+
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2));
+
+        ValidationDetails result = service.validateApplication(testApplication);
+
+        assertEquals(ValidationStatus.VALID, result.status());
+        assertEquals(1, result.passedRules().size());
+        assertEquals(List.of(RuleResult.builder().ruleName("RULE_2").build()), result.notApplicableRules());
+        verify(mockRule2, never()).validate(any());
+    }
+
+    @Test
+    void shouldSkipNonApplicableRulesInFirstFailureMode() {
+        when(mockRule1.getApplicability()).thenReturn(
+                profile -> profile.dependencyStatus() != DependencyStatus.DEPENDENT);
+
+        ValidationDetails rule2Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_2").build()))
+                .build();
+
+        when(mockRule2.validate(testApplication)).thenReturn(rule2Result);
+
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2));
+
+        ValidationDetails result = service.validateApplication(testApplication, ValidationMode.FIRST_FAILURE);
+
+        assertEquals(ValidationStatus.VALID, result.status());
+        assertEquals(1, result.notApplicableRules().size());
+        verify(mockRule1, never()).validate(any());
+    }
+
     @Test
     void shouldInitializeWithCorrectNumberOfRules() {
         service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2, mockRule3));
@@ -331,7 +635,7 @@ class ApplicationValidationServiceTest {
                 .studentInfo(StudentInfo.builder()
                         .firstName("John")
                         .lastName("Doe")
-                        .ssn("987654321")
+                        .ssn("876543219")
                         .dateOfBirth(LocalDate.of(2000, 1, 1))
                         .build())
                 .dependencyStatus(DependencyStatus.INDEPENDENT)
@@ -363,5 +667,599 @@ class ApplicationValidationServiceTest {
         assertEquals(2, result.passedRules().size());
         assertTrue(result.failedRules().isEmpty());
     }
-}
 
+    @Test
+    void factsAreComputedOnceAndSharedAcrossRules() {
+        Set<ApplicationFacts> seen = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        FactsValidationRule factsRule1 = factsRecordingRule("FACTS_1", seen);
+        FactsValidationRule factsRule2 = factsRecordingRule("FACTS_2", seen);
+        Clock fixedClock = Clock.fixed(Instant.parse("2026-01-01T00:00:00Z"), Clock.systemUTC().getZone());
+
+        service = new ApplicationValidationService(Arrays.asList(factsRule1, factsRule2), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), fixedClock,
+                Optional.empty(), Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+
+        ValidationDetails result = service.validateApplication(testApplication);
+
+        assertEquals(ValidationStatus.VALID, result.status());
+        assertEquals(1, seen.size());
+        ApplicationFacts facts = seen.iterator().next();
+        assertSame(testApplication, facts.application());
+        assertEquals(LocalDate.of(2026, 1, 1), facts.asOfDate());
+        assertEquals(22, facts.studentAge());
+    }
+
+    @Test
+    void batchValidationUsesTheRunAsOfDateForEveryRecord() {
+        Set<ApplicationFacts> seen = Collections.synchronizedSet(Collections.newSetFromMap(new IdentityHashMap<>()));
+        service = new ApplicationValidationService(List.of(factsRecordingRule("FACTS", seen)));
+        LocalDate runDate = LocalDate.of(2025, 6, 30);
+
+        service.validateAll(List.of(testApplication, testApplication), runDate);
+        List<ValidationDetails> streamed = service.validateAll(Stream.of(testApplication, testApplication), runDate)
+                .toList();
+
+        assertEquals(2, streamed.size());
+        assertEquals(4, seen.size());
+        for (ApplicationFacts facts : seen) {
+            assertEquals(runDate, facts.asOfDate());
+        }
+    }
+
+    @Test
+    void cachedCollectAllResultsSkipRuleEvaluation() {
+        ValidationDetails rule1Result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build();
+        when(mockRule1.validate(any())).thenReturn(rule1Result);
+        ValidationResultCache cache = new ValidationResultCache(100, Duration.ofHours(1), 1, Clock.systemUTC());
+
+        service = new ApplicationValidationService(List.of(mockRule1), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), Clock.systemUTC(),
+                Optional.of(cache), Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+
+        ValidationDetails first = service.validateApplication(testApplication);
+        ValidationDetails second = service.validateApplication(testApplication);
+        service.validateApplication(testApplication, ValidationMode.FIRST_FAILURE);
+
+        assertSame(first, second);
+        verify(mockRule1, times(2)).validate(testApplication);
+        assertEquals(new ValidationCacheStats(1, 1, 0, 1), service.cacheStats().orElseThrow());
+    }
+
+    @Test
+    void refreshedPlanDoesNotServeCachedResults() {
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build());
+        ValidationResultCache cache = new ValidationResultCache(100, Duration.ofHours(1), 1, Clock.systemUTC());
+
+        service = new ApplicationValidationService(List.of(mockRule1), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), Clock.systemUTC(),
+                Optional.of(cache), Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+
+        service.validateApplication(testApplication);
+        service.refreshPlan();
+        service.validateApplication(testApplication);
+
+        verify(mockRule1, times(2)).validate(testApplication);
+    }
+
+    @Test
+    void appliedRuleConfigurationSwapsActiveRules() {
+        when(mockRule2.validate(testApplication)).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_2").build()))
+                .build());
+        service = new ApplicationValidationService(Arrays.asList(mockRule1, mockRule2));
+        Properties properties = new Properties();
+        properties.setProperty("RULE_1.active", "false");
+
+        service.applyRuleConfiguration(RuleConfiguration.from(properties));
+        service.refreshPlan();
+        ValidationDetails result = service.validateApplication(testApplication);
+
+        assertEquals(List.of(RuleResult.builder().ruleName("RULE_2").build()), result.passedRules());
+        verify(mockRule1, never()).validate(any());
+    }
+
+    @Test
+    void invalidRuleConfigurationKeepsCurrentRules() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder().dateOfBirth(LocalDate.now().minusYears(15)).build())
+                .build();
+        service = new ApplicationValidationService(List.of(new StudentAgeRule()));
+
+        assertThrows(IllegalArgumentException.class, () -> service.applyRuleConfiguration(new RuleConfiguration(
+                Map.of(), Map.of("STUDENT_AGE", new RuleParameters(Map.of("minimum-age", "abc"))))));
+        assertEquals(ValidationStatus.VALID, service.validateApplication(application).status());
+
+        service.applyRuleConfiguration(new RuleConfiguration(
+                Map.of(), Map.of("STUDENT_AGE", new RuleParameters(Map.of("minimum-age", "16")))));
+        assertEquals(ValidationStatus.INVALID, service.validateApplication(application).status());
+    }
+
+    @Test
+    void revalidationReRunsOnlyRulesReadingChangedFields() {
+        when(mockRule1.getReadFields()).thenReturn(EnumSet.of(ApplicationField.INCOME));
+        when(mockRule2.getReadFields()).thenReturn(EnumSet.of(ApplicationField.STATE_OF_RESIDENCE));
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build());
+        when(mockRule2.validate(any())).thenAnswer(invocation -> {
+            Application application = invocation.getArgument(0);
+            return "XX".equals(application.stateOfResidence())
+                    ? ValidationDetails.builder()
+                            .status(ValidationStatus.INVALID)
+                            .failedRules(List.of(RuleResult.builder().ruleName("RULE_2").message("bad").build()))
+                            .build()
+                    : ValidationDetails.builder()
+                            .status(ValidationStatus.VALID)
+                            .passedRules(List.of(RuleResult.builder().ruleName("RULE_2").build()))
+                            .build();
+        });
+        service = revalidatingService(Arrays.asList(mockRule1, mockRule2));
+
+        RevalidationResult initial = service.validateForRevalidation(Application.builder()
+                .dependencyStatus(DependencyStatus.DEPENDENT)
+                .stateOfResidence("XX")
+                .build());
+        RevalidationResult corrected = service.revalidate(initial.token(),
+                Application.builder().stateOfResidence("VA").build(), Set.of()).orElseThrow();
+
+        assertEquals(ValidationStatus.INVALID, initial.details().status());
+        assertEquals(ValidationStatus.VALID, corrected.details().status());
+        assertEquals(initial.token(), corrected.token());
+        assertEquals(List.of("RULE_1", "RULE_2"),
+                corrected.details().passedRules().stream().map(RuleResult::ruleName).collect(Collectors.toList()));
+        verify(mockRule1, times(1)).validate(any());
+        verify(mockRule2, times(2)).validate(any());
+    }
+
+    @Test
+    void revalidationRunsRulesThatBecomeApplicable() {
+        when(mockRule1.getReadFields()).thenReturn(EnumSet.of(ApplicationField.INCOME));
+        when(mockRule1.getApplicability()).thenReturn(
+                profile -> profile.dependencyStatus() != DependencyStatus.INDEPENDENT);
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build());
+        service = revalidatingService(List.of(mockRule1));
+
+        RevalidationResult initial = service.validateForRevalidation(Application.builder()
+                .dependencyStatus(DependencyStatus.INDEPENDENT)
+                .build());
+        RevalidationResult changed = service.revalidate(initial.token(),
+                Application.builder().dependencyStatus(DependencyStatus.DEPENDENT).build(), Set.of()).orElseThrow();
+
+        assertEquals(1, initial.details().notApplicableRules().size());
+        assertEquals(1, changed.details().passedRules().size());
+        assertTrue(changed.details().notApplicableRules().isEmpty());
+        verify(mockRule1, times(1)).validate(any());
+    }
+
+    @Test
+    void revalidationClearsFieldsAndReRunsAllRulesAfterPlanRefresh() {
+        when(mockRule1.getReadFields()).thenReturn(EnumSet.of(ApplicationField.INCOME));
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build());
+        service = revalidatingService(List.of(mockRule1));
+
+        RevalidationResult initial = service.validateForRevalidation(testApplication);
+        service.refreshPlan();
+        service.revalidate(initial.token(), Application.builder().build(), Set.of(ApplicationField.STUDENT_INFO));
+
+        verify(mockRule1, times(2)).validate(any());
+        verify(mockRule1, times(1)).validate(Application.builder()
+                .dependencyStatus(DependencyStatus.DEPENDENT)
+                .maritalStatus(MaritalStatus.SINGLE)
+                .build());
+    }
+
+    @Test
+    void revalidationWithUnknownTokenIsEmpty() {
+        service = revalidatingService(List.of(mockRule1));
+
+        assertTrue(service.revalidate("unknown", Application.builder().build(), Set.of()).isEmpty());
+        assertTrue(new ApplicationValidationService(List.of(mockRule1))
+                .revalidate("unknown", Application.builder().build(), Set.of()).isEmpty());
+    }
+
+    @Test
+    void sampledApplicationsAreShadowEvaluatedWithoutChangingResponse() throws InterruptedException {
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_1").message("bad").build()))
+                .build());
+        ExecutorService shadowExecutor = Executors.newSingleThreadExecutor();
+        ShadowEvaluator shadow = new ShadowEvaluator(List.of(mockRule1),
+                RuleSetProperties.defaults().defaultVersion(), shadowExecutor, 1.0, 10);
+        shadow.applyCandidateConfiguration(new RuleConfiguration(Map.of("RULE_1", false), Map.of()));
+
+        service = new ApplicationValidationService(List.of(mockRule1), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), Clock.systemUTC(),
+                Optional.empty(), Optional.empty(), Optional.of(shadow), RuleSetProperties.defaults());
+
+        ValidationDetails result = service.validateApplication(testApplication);
+        shadowExecutor.shutdown();
+        assertTrue(shadowExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(ValidationStatus.INVALID, result.status());
+        ShadowStats stats = service.shadowStats().orElseThrow();
+        assertEquals(1, stats.sampled());
+        assertEquals(1, stats.mismatched());
+        assertEquals(ValidationStatus.VALID, stats.recentDiffs().get(0).candidateStatus());
+        verify(mockRule1, times(1)).validate(any());
+    }
+
+    @Test
+    void primaryRuleConfigurationIsSharedWithTheShadowCandidate() {
+        ShadowEvaluator shadow = new ShadowEvaluator(List.of(mockRule1, mockRule2),
+                RuleSetProperties.defaults().defaultVersion(), Executors.newSingleThreadExecutor(), 1.0, 10);
+        service = new ApplicationValidationService(List.of(mockRule1, mockRule2), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), Clock.systemUTC(),
+                Optional.empty(), Optional.empty(), Optional.of(shadow), RuleSetProperties.defaults());
+
+        service.applyRuleConfiguration(new RuleConfiguration(Map.of("RULE_2", false), Map.of()));
+
+        assertEquals(List.of("RULE_1"), service.shadowStats().orElseThrow().candidateRules());
+        shadow.shutdown();
+    }
+
+    @Test
+    void revalidationTokensAreIssuedThroughCacheAndShadowSampling() throws InterruptedException {
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_1").message("bad").build()))
+                .build());
+        ValidationResultCache cache = new ValidationResultCache(100, Duration.ofHours(1), 1, Clock.systemUTC());
+        ExecutorService shadowExecutor = Executors.newSingleThreadExecutor();
+        ShadowEvaluator shadow = new ShadowEvaluator(List.of(mockRule1),
+                RuleSetProperties.defaults().defaultVersion(), shadowExecutor, 1.0, 10);
+        service = new ApplicationValidationService(List.of(mockRule1), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), Clock.systemUTC(),
+                Optional.of(cache), Optional.of(new RevalidationStore(100, Duration.ofMinutes(30), Clock.systemUTC())),
+                Optional.of(shadow), RuleSetProperties.defaults());
+
+        RevalidationResult first = service.validateForRevalidation(testApplication);
+        RevalidationResult second = service.validateForRevalidation(testApplication);
+        shadowExecutor.shutdown();
+        assertTrue(shadowExecutor.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertNotEquals(first.token(), second.token());
+        assertSame(first.details(), second.details());
+        assertEquals(1, service.cacheStats().orElseThrow().hits());
+        assertEquals(1, service.shadowStats().orElseThrow().sampled());
+        verify(mockRule1, times(2)).validate(any());
+    }
+
+    @Test
+    void cacheStatsAreEmptyWhenCacheIsDisabled() {
+        service = new ApplicationValidationService(List.of(mockRule1));
+
+        assertTrue(service.cacheStats().isEmpty());
+    }
+
+    @Test
+    void validatesAgainstTheRequestedRuleSetVersion() {
+        when(mockRule1.getRuleSetVersions()).thenReturn(Set.of("2025-26"));
+        when(mockRule2.getRuleSetVersions()).thenReturn(Set.of("2026-27"));
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID).passedRules(List.of(RuleResult.passed("RULE_1"))).build());
+        when(mockRule2.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID).passedRules(List.of(RuleResult.passed("RULE_2"))).build());
+        service = versionedService(List.of(mockRule1, mockRule2));
+
+        ValidationDetails priorYear = service.validateApplication(testApplication, ValidationMode.COLLECT_ALL,
+                "2025-26");
+        ValidationDetails defaultYear = service.validateApplication(testApplication);
+
+        assertEquals(Set.of("2025-26", "2026-27"), service.ruleSetVersions());
+        assertEquals(List.of("RULE_1"), priorYear.passedRules().stream().map(RuleResult::ruleName).toList());
+        assertEquals(List.of("RULE_2"), defaultYear.passedRules().stream().map(RuleResult::ruleName).toList());
+    }
+
+    @Test
+    void unknownRuleSetVersionIsRejected() {
+        service = versionedService(List.of(mockRule1));
+
+        assertThrows(UnknownRuleSetVersionException.class,
+                () -> service.validateApplication(testApplication, ValidationMode.COLLECT_ALL, "1999-00"));
+        verify(mockRule1, never()).validate(any());
+    }
+
+    @Test
+    void compactValidationReportsFailedRuleIdsAndMessageCodes() {
+        service = new ApplicationValidationService(List.of(new SsnRule(), new StateCodeRule()));
+        Application application = Application.builder()
+                .studentInfo(StudentInfo.builder().ssn("12345").build())
+                .stateOfResidence("ZZ")
+                .build();
+
+        CompactValidationDetails result = service.validateCompact(application, ValidationMode.COLLECT_ALL, null);
+
+        assertEquals(new CompactValidationDetails(ValidationStatus.INVALID, new long[]{(1L << 2) | (1L << 6)},
+                new int[]{203, 602}), result);
+        assertEquals(Map.of("SSN_FORMAT", 2, "STATE_CODE", 6), service.ruleIds(null));
+    }
+
+    @Test
+    void compactFirstFailureStopsAtTheFirstFailingRule() {
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(new RuleResult("RULE_1", "Rule 1 failed")))
+                .build());
+        service = new ApplicationValidationService(List.of(mockRule1, mockRule2));
+
+        CompactValidationDetails result = service.validateCompact(testApplication, ValidationMode.FIRST_FAILURE,
+                null);
+
+        assertArrayEquals(new int[]{1}, result.failedRuleIds());
+        assertEquals(0, result.messageCodes().length);
+        verify(mockRule2, never()).validate(any());
+    }
+
+    @Test
+    void failuresOnlyViewOmitsPassedAndNotApplicableRules() {
+        service = new ApplicationValidationService(List.of(new SsnRule(), new StateCodeRule()));
+        Application application = Application.builder()
+                .studentInfo(StudentInfo.builder().ssn("123456789").build())
+                .stateOfResidence("ZZ")
+                .build();
+
+        ValidationDetails result = service.validateApplication(application, ValidationMode.COLLECT_ALL,
+                ResponseView.FAILURES_ONLY, null);
+
+        assertEquals(ValidationStatus.INVALID, result.status());
+        assertNull(result.passedRules());
+        assertNull(result.notApplicableRules());
+        assertEquals(List.of(new RuleResult("STATE_CODE", "Invalid state code. Provided: ZZ")),
+                result.failedRules());
+    }
+
+    @Test
+    void statusOnlyViewKeepsOnlyTheStatus() {
+        service = new ApplicationValidationService(List.of(new SsnRule(), new StateCodeRule()));
+        Application application = Application.builder()
+                .studentInfo(StudentInfo.builder().ssn("123456789").build())
+                .stateOfResidence("ZZ")
+                .build();
+
+        for (ValidationMode mode : ValidationMode.values()) {
+            ValidationDetails result = service.validateApplication(application, mode, ResponseView.STATUS_ONLY,
+                    null);
+
+            assertEquals(ValidationDetails.builder().status(ValidationStatus.INVALID).build(), result);
+        }
+    }
+
+    @Test
+    void reducedViewsAreServedFromCachedFullResultsWithoutFillingTheCache() {
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .passedRules(List.of())
+                .failedRules(List.of(new RuleResult("RULE_1", "Rule 1 failed")))
+                .build());
+        ValidationResultCache cache = new ValidationResultCache(100, Duration.ofHours(1), 1, Clock.systemUTC());
+        service = new ApplicationValidationService(List.of(mockRule1), Optional.empty(),
+                ForkJoinPool.commonPool(), BatchValidationProperties.defaults(), Clock.systemUTC(),
+                Optional.of(cache), Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+
+        service.validateApplication(testApplication, ValidationMode.COLLECT_ALL, ResponseView.STATUS_ONLY, null);
+        service.validateApplication(testApplication);
+        ValidationDetails failures = service.validateApplication(testApplication, ValidationMode.COLLECT_ALL,
+                ResponseView.FAILURES_ONLY, null);
+
+        assertNull(failures.passedRules());
+        assertEquals(List.of(new RuleResult("RULE_1", "Rule 1 failed")), failures.failedRules());
+        verify(mockRule1, times(2)).validate(testApplication);
+        assertEquals(1, service.cacheStats().orElseThrow().size());
+    }
+
+    @Test
+    void compactViewIsRejectedByValidateApplication() {
+        service = new ApplicationValidationService(List.of(mockRule1));
+
+        assertThrows(IllegalArgumentException.class, () -> service.validateApplication(testApplication,
+                ValidationMode.COLLECT_ALL, ResponseView.COMPACT, null));
+    }
+
+    @Test
+    void compactBatchValidationPreservesInputOrder() {
+        service = new ApplicationValidationService(List.of(new StateCodeRule()));
+        List<Application> applications = List.of(
+                Application.builder().stateOfResidence("CA").build(),
+                Application.builder().stateOfResidence("ZZ").build());
+
+        List<CompactValidationDetails> results = service.validateAllCompact(applications);
+
+        assertSame(CompactValidationDetails.VALID, results.get(0));
+        assertTrue(results.get(1).isFailed(6));
+    }
+
+    @Test
+    void batchResultsKeepClientIdsAndSummarizeStatuses() {
+        service = new ApplicationValidationService(List.of(new StateCodeRule()));
+        List<BatchApplication> batch = List.of(
+                new BatchApplication("a-1", Application.builder().stateOfResidence("CA").build()),
+                new BatchApplication("a-2", Application.builder().stateOfResidence("ZZ").build()),
+                new BatchApplication("a-3", Application.builder().build()));
+
+        BatchValidationResponse response = service.validateBatch(batch, null);
+
+        assertEquals(new BatchSummary(3, 1, 2), response.summary());
+        assertEquals(List.of("a-1", "a-2", "a-3"), response.results().stream().map(BatchRecordResult::id).toList());
+        assertEquals(ValidationStatus.VALID, response.results().get(0).details().status());
+        assertEquals("Invalid state code. Provided: ZZ",
+                response.results().get(1).details().failedRules().get(0).message(Locale.ENGLISH));
+        assertEquals("State of residence is missing",
+                response.results().get(2).details().failedRules().get(0).message(Locale.ENGLISH));
+    }
+
+    @Test
+    void batchRecordsWithoutApplicationAreRejectedBeforeValidation() {
+        service = new ApplicationValidationService(List.of(mockRule1));
+        List<BatchApplication> missingApplication = List.of(new BatchApplication("a-1", testApplication),
+                new BatchApplication("a-2", null));
+        List<BatchApplication> nullRecord = Arrays.asList(new BatchApplication("a-1", testApplication), null);
+
+        InvalidBatchRecordException e = assertThrows(InvalidBatchRecordException.class,
+                () -> service.validateBatch(missingApplication, null));
+        assertEquals("Record at index 1 has no application", e.getMessage());
+        assertThrows(InvalidBatchRecordException.class, () -> service.validateBatch(nullRecord, null));
+        verify(mockRule1, never()).validate(any());
+    }
+
+    @Test
+    void streamingValidationStopsAtANullApplication() {
+        when(mockRule1.validate(any())).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.passed("RULE_1")))
+                .build());
+        service = new ApplicationValidationService(List.of(mockRule1));
+        List<ValidationDetails> consumed = new ArrayList<>();
+
+        InvalidBatchRecordException e = assertThrows(InvalidBatchRecordException.class,
+                () -> service.validateStreaming(Arrays.asList(testApplication, testApplication, null).iterator(),
+                        null, consumed::add));
+
+        assertEquals("Record at index 2 has no application", e.getMessage());
+        assertTrue(consumed.size() <= 2);
+    }
+
+    @Test
+    void batchesOverTheMaximumSizeAreRejected() {
+        service = new ApplicationValidationService(List.of(mockRule1), Optional.empty(), ForkJoinPool.commonPool(),
+                new BatchValidationProperties(0, 64, 4096, 2, 256), Clock.systemUTC(), Optional.empty(), Optional.empty(),
+                Optional.empty(), RuleSetProperties.defaults());
+        List<BatchApplication> batch = List.of(new BatchApplication("1", testApplication),
+                new BatchApplication("2", testApplication), new BatchApplication("3", testApplication));
+
+        assertThrows(BatchTooLargeException.class, () -> service.validateBatch(batch, null));
+        verify(mockRule1, never()).validate(any());
+    }
+
+    @Test
+    void streamingValidationPreservesOrderWithinABoundedWindow() {
+        service = new ApplicationValidationService(List.of(stateEchoRule()), Optional.empty(), new ForkJoinPool(4),
+                new BatchValidationProperties(0, 64, 4096, 10000, 3), Clock.systemUTC(), Optional.empty(),
+                Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+        List<String> states = IntStream.range(0, 50).mapToObj(i -> "S" + i).toList();
+        List<String> consumed = new ArrayList<>();
+        int[] maxAhead = new int[1];
+        Iterator<Application> source = new Iterator<>() {
+            private int read;
+
+            @Override
+            public boolean hasNext() {
+                return read < states.size();
+            }
+
+            @Override
+            public Application next() {
+                maxAhead[0] = Math.max(maxAhead[0], read - consumed.size());
+                return Application.builder().stateOfResidence(states.get(read++)).build();
+            }
+        };
+
+        long validated = service.validateStreaming(source, null,
+                details -> consumed.add(details.passedRules().get(0).message()));
+
+        assertEquals(50, validated);
+        assertEquals(states, consumed);
+        assertTrue(maxAhead[0] <= 3, "read ahead " + maxAhead[0]);
+    }
+
+    @Test
+    void streamingValidationEvaluatesInTheCallersLocale() {
+        Set<Locale> locales = ConcurrentHashMap.newKeySet();
+        ValidationRule rule = mock(ValidationRule.class);
+        when(rule.getRuleName()).thenReturn("LOCALE_ECHO");
+        when(rule.isActive()).thenReturn(true);
+        when(rule.validate(any())).thenAnswer(invocation -> {
+            locales.add(LocaleContextHolder.getLocale());
+            return ValidationDetails.builder().status(ValidationStatus.VALID).build();
+        });
+        service = new ApplicationValidationService(List.of(rule), Optional.empty(), new ForkJoinPool(4),
+                new BatchValidationProperties(0, 64, 4096, 10000, 8), Clock.systemUTC(), Optional.empty(),
+                Optional.empty(), Optional.empty(), RuleSetProperties.defaults());
+        Iterator<Application> source = IntStream.range(0, 50)
+                .mapToObj(i -> Application.builder().stateOfResidence("S" + i).build())
+                .iterator();
+
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("es"));
+        try {
+            assertEquals(50, service.validateStreaming(source, null, details -> { }));
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+
+        assertEquals(Set.of(Locale.forLanguageTag("es")), locales);
+    }
+
+    @Test
+    void streamingValidationRejectsUnknownRuleSetBeforeReading() {
+        service = versionedService(List.of(mockRule1));
+        Iterator<Application> source = List.of(testApplication).iterator();
+
+        assertThrows(UnknownRuleSetVersionException.class,
+                () -> service.validateStreaming(source, "1999-00", details -> fail("no results expected")));
+        assertTrue(source.hasNext());
+    }
+
+    private ApplicationValidationService versionedService(List<ValidationRule> rules) {
+        return new ApplicationValidationService(rules, Optional.empty(), ForkJoinPool.commonPool(),
+                BatchValidationProperties.defaults(), Clock.systemUTC(), Optional.empty(), Optional.empty(),
+                Optional.empty(), new RuleSetProperties("2026-27", List.of("2025-26", "2026-27")));
+    }
+
+    private ApplicationValidationService revalidatingService(List<ValidationRule> rules) {
+        return new ApplicationValidationService(rules, Optional.empty(), ForkJoinPool.commonPool(),
+                BatchValidationProperties.defaults(), Clock.systemUTC(), Optional.empty(),
+                Optional.of(new RevalidationStore(100, Duration.ofMinutes(30), Clock.systemUTC())), Optional.empty(),
+                RuleSetProperties.defaults());
+    }
+
+    private FactsValidationRule factsRecordingRule(String ruleName, Set<ApplicationFacts> seen) {
+        return new FactsValidationRule() {
+            @Override
+            public String getRuleName() {
+                return ruleName;
+            }
+
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public void validate(ApplicationFacts facts, RuleResultSink sink) {
+                seen.add(facts);
+                sink.pass(ruleName);
+            }
+        };
+    }
+
+    private ValidationRule stateEchoRule() {
+        ValidationRule rule = mock(ValidationRule.class);
+        when(rule.getRuleName()).thenReturn("STATE_ECHO");
+        when(rule.isActive()).thenReturn(true);
+        when(rule.validate(any())).thenAnswer(invocation -> {
+            Application application = invocation.getArgument(0);
+            return ValidationDetails.builder()
+                    .status(ValidationStatus.VALID)
+                    .passedRules(List.of(RuleResult.builder()
+                            .ruleName("STATE_ECHO")
+                            .message(application.stateOfResidence())
+                            .build()))
+                    .build();
+        });
+        return rule;
+    }
+}
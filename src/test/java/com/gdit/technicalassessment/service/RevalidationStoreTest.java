@@ -0,0 +1,60 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.validation.engine.RuleExecutionPlan;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RevalidationStoreTest {
+
+    private final RevalidationStore.Session session = new RevalidationStore.Session(
+            Application.builder().build(),
+            ValidationDetails.builder().status(ValidationStatus.VALID).build(),
+            RuleExecutionPlan.compile(List.of()),
+            LocalDate.of(2026, 1, 1));
+
+    @Test
+    void createdSessionsAreRetrievableByToken() {
+        var store = new RevalidationStore(10, Duration.ofMinutes(30), Clock.systemUTC());
+
+        String token = store.create(session);
+
+        assertSame(session, store.get(token).orElseThrow());
+        assertTrue(store.get("unknown").isEmpty());
+    }
+
+    @Test
+    void expiredSessionsAreRemoved() {
+        var clock = Clock.fixed(Instant.parse("2026-01-01T10:00:00Z"), ZoneOffset.UTC);
+        var store = new RevalidationStore(10, Duration.ZERO, clock);
+
+        String token = store.create(session);
+
+        assertTrue(store.get(token).isEmpty());
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void leastRecentlyUsedSessionIsDroppedWhenFull() {
+        var store = new RevalidationStore(2, Duration.ofMinutes(30), Clock.systemUTC());
+        String first = store.create(session);
+        String second = store.create(session);
+        store.get(first);
+
+        String third = store.create(session);
+
+        assertTrue(store.get(first).isPresent());
+        assertTrue(store.get(second).isEmpty());
+        assertTrue(store.get(third).isPresent());
+    }
+}
@@ -0,0 +1,239 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.ValidationRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ShadowEvaluatorTest {
+
+    private static final String VERSION = "2026-27";
+
+    private ValidationRule mockRule1;
+    private ValidationRule mockRule2;
+    private Application application;
+    private ValidationDetails primary;
+
+    @BeforeEach
+    void setUp() {
+        mockRule1 = mock(ValidationRule.class);
+        mockRule2 = mock(ValidationRule.class);
+        when(mockRule1.getRuleName()).thenReturn("RULE_1");
+        when(mockRule2.getRuleName()).thenReturn("RULE_2");
+        when(mockRule1.isActive()).thenReturn(true);
+        when(mockRule2.isActive()).thenReturn(true);
+
+        application = Application.builder().stateOfResidence("VA").build();
+        primary = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .passedRules(List.of(RuleResult.passed("RULE_1")))
+                .failedRules(List.of(new RuleResult("RULE_2", "bad")))
+                .build();
+    }
+
+    @Test
+    void matchingCandidateResultIsCounted() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1, mockRule2), VERSION, executor, 1.0, 10);
+
+        shadow.submit(application, primary, plan -> ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .passedRules(List.of(RuleResult.passed("RULE_1")))
+                .failedRules(List.of(new RuleResult("RULE_2", "bad")))
+                .build());
+        awaitCompletion(executor);
+
+        var stats = shadow.stats();
+        assertEquals(1, stats.sampled());
+        assertEquals(1, stats.matched());
+        assertEquals(0, stats.mismatched());
+        assertTrue(stats.recentDiffs().isEmpty());
+    }
+
+    @Test
+    void candidateConfigurationIsUsedAndDifferencesAreRecorded() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1, mockRule2), VERSION, executor, 1.0, 10);
+        shadow.applyCandidateConfiguration(new RuleConfiguration(Map.of("RULE_2", false), Map.of()));
+
+        shadow.submit(application, primary, plan -> ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(plan.getRuleNames().stream().map(RuleResult::passed).toList())
+                .failedRules(List.of())
+                .build());
+        awaitCompletion(executor);
+
+        var stats = shadow.stats();
+        assertEquals(List.of("RULE_1"), stats.candidateRules());
+        assertEquals(1, stats.mismatched());
+        assertEquals(List.of(new ShadowDiff(ValidationStatus.INVALID, ValidationStatus.VALID,
+                List.of(new ShadowFailure("RULE_2", null)), List.of())), stats.recentDiffs());
+    }
+
+    @Test
+    void candidateIsLayeredOverThePrimaryConfiguration() {
+        var shadow = new ShadowEvaluator(List.of(mockRule1, mockRule2), VERSION,
+                Executors.newSingleThreadExecutor(), 1.0, 10);
+
+        shadow.applyPrimaryConfiguration(new RuleConfiguration(Map.of("RULE_2", false), Map.of()));
+        assertEquals(List.of("RULE_1"), shadow.stats().candidateRules());
+
+        shadow.applyCandidateConfiguration(new RuleConfiguration(Map.of("RULE_1", false), Map.of()));
+        assertEquals(List.of(), shadow.stats().candidateRules());
+
+        shadow.applyCandidateConfiguration(new RuleConfiguration(Map.of("RULE_2", true), Map.of()));
+        assertEquals(List.of("RULE_1", "RULE_2"), shadow.stats().candidateRules());
+        shadow.shutdown();
+    }
+
+    @Test
+    void candidateIsCompiledForItsRuleSetVersionOnly() throws InterruptedException {
+        ValidationRule priorYearRule = mock(ValidationRule.class);
+        when(priorYearRule.getRuleName()).thenReturn("PRIOR_YEAR");
+        when(priorYearRule.isActive()).thenReturn(true);
+        when(priorYearRule.getRuleSetVersions()).thenReturn(Set.of("2025-26"));
+        when(mockRule2.getRuleSetVersions()).thenReturn(Set.of(VERSION));
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1, priorYearRule, mockRule2), VERSION, executor, 1.0, 10);
+
+        assertEquals(List.of("RULE_1", "RULE_2"), shadow.stats().candidateRules());
+
+        shadow.applyCandidateConfiguration(new RuleConfiguration(Map.of("RULE_1", false), Map.of()));
+        shadow.submit(application, primary, plan -> {
+            assertEquals(VERSION, plan.ruleSetVersion());
+            return primary;
+        });
+        awaitCompletion(executor);
+
+        assertEquals(List.of("RULE_2"), shadow.stats().candidateRules());
+        assertEquals(1, shadow.stats().matched());
+        assertEquals(0, shadow.stats().errors());
+    }
+
+    @Test
+    void diffsKeepMessageCodesButNeverApplicantInput() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 1.0, 10);
+        var primaryWithSsn = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.failed("MARRIED_SPOUSE_INFO", RuleMessage.SPOUSE_SSN_UNISSUED,
+                        "666-12-3456")))
+                .build();
+
+        shadow.submit(application, primaryWithSsn, plan -> ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .build());
+        awaitCompletion(executor);
+
+        ShadowDiff diff = shadow.stats().recentDiffs().get(0);
+        assertEquals(List.of(new ShadowFailure("MARRIED_SPOUSE_INFO", RuleMessage.SPOUSE_SSN_UNISSUED.code())),
+                diff.primaryFailures());
+        assertFalse(diff.toString().contains("666"));
+    }
+
+    @Test
+    void failuresWithDifferentInputButSameMessageMatch() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 1.0, 10);
+        var primaryFailure = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.failed("STATE_CODE", RuleMessage.STATE_INVALID, "ZZ")))
+                .build();
+
+        shadow.submit(application, primaryFailure, plan -> ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.failed("STATE_CODE", RuleMessage.STATE_INVALID, "XX")))
+                .build());
+        awaitCompletion(executor);
+
+        assertEquals(1, shadow.stats().matched());
+    }
+
+    @Test
+    void diffLogKeepsOnlyMostRecentEntries() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 1.0, 2);
+
+        for (String ruleName : List.of("FIRST", "SECOND", "THIRD")) {
+            shadow.submit(application, primary, plan -> ValidationDetails.builder()
+                    .status(ValidationStatus.INVALID)
+                    .failedRules(List.of(new RuleResult(ruleName, "bad")))
+                    .build());
+        }
+        awaitCompletion(executor);
+
+        var diffs = shadow.stats().recentDiffs();
+        assertEquals(3, shadow.stats().mismatched());
+        assertEquals(2, diffs.size());
+        assertEquals("SECOND", diffs.get(0).candidateFailures().get(0).ruleName());
+        assertEquals("THIRD", diffs.get(1).candidateFailures().get(0).ruleName());
+    }
+
+    @Test
+    void samplesAreDroppedWhenExecutorIsSaturated() throws InterruptedException {
+        var executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new SynchronousQueue<>());
+        var shadow = new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 1.0, 10);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        shadow.submit(application, primary, plan -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return primary;
+        });
+        started.await();
+        shadow.submit(application, primary, plan -> primary);
+        release.countDown();
+        awaitCompletion(executor);
+
+        var stats = shadow.stats();
+        assertEquals(1, stats.sampled());
+        assertEquals(1, stats.dropped());
+        assertEquals(1, stats.matched());
+    }
+
+    @Test
+    void failingCandidateEvaluationIsCountedAsError() throws InterruptedException {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        var shadow = new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 1.0, 10);
+
+        shadow.submit(application, primary, plan -> {
+            throw new IllegalStateException("boom");
+        });
+        awaitCompletion(executor);
+
+        assertEquals(1, shadow.stats().errors());
+    }
+
+    @Test
+    void sampleRateControlsSampling() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        assertFalse(new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 0.0, 10).shouldSample());
+        assertTrue(new ShadowEvaluator(List.of(mockRule1), VERSION, executor, 1.0, 10).shouldSample());
+        executor.shutdown();
+    }
+
+    private void awaitCompletion(ExecutorService executor) throws InterruptedException {
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,139 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.config.BinaryContentConfig;
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.validation.rules.StateCodeRule;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StreamingValidationServiceTest {
+
+    private static final List<Application> APPLICATIONS = List.of(
+            Application.builder().stateOfResidence("VA").build(),
+            Application.builder().stateOfResidence("ZZ").build(),
+            Application.builder().stateOfResidence("MD").build());
+    private static final List<ValidationStatus> EXPECTED_STATUSES =
+            List.of(ValidationStatus.VALID, ValidationStatus.INVALID, ValidationStatus.VALID);
+
+    private final ObjectMapper jsonMapper = new ObjectMapper();
+    private final CBORMapper cborMapper = CBORMapper.builder().build();
+    private final SmileMapper smileMapper = SmileMapper.builder().build();
+    private final StreamingValidationService streamingService = new StreamingValidationService(
+            new ApplicationValidationService(List.of(new StateCodeRule())), jsonMapper);
+
+    @Test
+    void cborApplicationsRoundTripToCborResults() throws Exception {
+        assertRoundTrip(cborMapper, MediaType.APPLICATION_CBOR, cborMapper, MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void smileApplicationsRoundTripToSmileResults() throws Exception {
+        assertRoundTrip(smileMapper, BinaryContentConfig.APPLICATION_SMILE,
+                smileMapper, BinaryContentConfig.APPLICATION_SMILE);
+    }
+
+    @Test
+    void binaryInputCanBeAnsweredInAnotherFormat() throws Exception {
+        assertRoundTrip(cborMapper, MediaType.APPLICATION_CBOR, smileMapper, BinaryContentConfig.APPLICATION_SMILE);
+        assertRoundTrip(smileMapper, BinaryContentConfig.APPLICATION_SMILE, jsonMapper, MediaType.APPLICATION_NDJSON);
+    }
+
+    @Test
+    void ndjsonApplicationsCanBeAnsweredInCbor() throws Exception {
+        byte[] input = APPLICATIONS.stream()
+                .map(application -> jsonMapper.writeValueAsString(application) + "\n")
+                .reduce("", String::concat)
+                .getBytes(StandardCharsets.UTF_8);
+        var output = new ByteArrayOutputStream();
+
+        long validated = streamingService.validate(new ByteArrayInputStream(input), MediaType.APPLICATION_NDJSON,
+                output, MediaType.APPLICATION_CBOR, null);
+
+        assertEquals(APPLICATIONS.size(), validated);
+        assertEquals(EXPECTED_STATUSES, statuses(cborMapper, output.toByteArray()));
+    }
+
+    @Test
+    void ndjsonResultsAreWrittenOnePerLine() throws Exception {
+        byte[] input = encode(cborMapper, APPLICATIONS);
+        var output = new ByteArrayOutputStream();
+
+        streamingService.validate(new ByteArrayInputStream(input), MediaType.APPLICATION_CBOR,
+                output, MediaType.APPLICATION_NDJSON, null);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(APPLICATIONS.size(), lines.length);
+        assertEquals(ValidationStatus.INVALID, jsonMapper.readValue(lines[1], ValidationDetails.class).status());
+    }
+
+    @Test
+    void responseTypeFollowsTheFirstSupportedAcceptedType() {
+        assertEquals(MediaType.APPLICATION_CBOR, streamingService.responseType(MediaType.APPLICATION_NDJSON,
+                MediaType.parseMediaTypes("text/plain, application/cbor, application/x-jackson-smile")));
+        assertEquals(BinaryContentConfig.APPLICATION_SMILE, streamingService.responseType(MediaType.APPLICATION_CBOR,
+                MediaType.parseMediaTypes("application/x-jackson-smile;q=0.9")));
+    }
+
+    @Test
+    void responseTypeFallsBackToTheRequestType() {
+        assertEquals(MediaType.APPLICATION_CBOR,
+                streamingService.responseType(MediaType.APPLICATION_CBOR, List.of()));
+        assertEquals(BinaryContentConfig.APPLICATION_SMILE, streamingService.responseType(
+                BinaryContentConfig.APPLICATION_SMILE, MediaType.parseMediaTypes("*/*, application/*")));
+        assertEquals(MediaType.APPLICATION_NDJSON, streamingService.responseType(MediaType.APPLICATION_NDJSON,
+                MediaType.parseMediaTypes("text/plain")));
+    }
+
+    @Test
+    void unsupportedStreamTypeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> streamingService.responseType(MediaType.APPLICATION_JSON, List.of()));
+        assertThrows(IllegalArgumentException.class, () -> streamingService.validate(
+                new ByteArrayInputStream(new byte[0]), MediaType.APPLICATION_JSON,
+                new ByteArrayOutputStream(), MediaType.APPLICATION_CBOR, null));
+    }
+
+    private void assertRoundTrip(ObjectMapper inputMapper, MediaType inputType, ObjectMapper outputMapper,
+                                 MediaType outputType) throws Exception {
+        var output = new ByteArrayOutputStream();
+
+        long validated = streamingService.validate(new ByteArrayInputStream(encode(inputMapper, APPLICATIONS)),
+                inputType, output, outputType, null);
+
+        assertEquals(APPLICATIONS.size(), validated);
+        assertEquals(EXPECTED_STATUSES, statuses(outputMapper, output.toByteArray()));
+    }
+
+    private static byte[] encode(ObjectMapper mapper, List<Application> applications) throws IOException {
+        var bytes = new ByteArrayOutputStream();
+        try (SequenceWriter writer = mapper.writerFor(Application.class).writeValues(bytes)) {
+            applications.forEach(writer::write);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static List<ValidationStatus> statuses(ObjectMapper mapper, byte[] results) throws IOException {
+        List<ValidationStatus> statuses = new ArrayList<>();
+        try (MappingIterator<ValidationDetails> details = mapper.readerFor(ValidationDetails.class)
+                .readValues(new ByteArrayInputStream(results))) {
+            details.forEachRemaining(result -> statuses.add(result.status()));
+        }
+        return statuses;
+    }
+}
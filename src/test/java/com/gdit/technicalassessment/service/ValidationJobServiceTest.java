@@ -0,0 +1,257 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.config.BatchValidationProperties;
+import com.gdit.technicalassessment.config.RuleSetProperties;
+import com.gdit.technicalassessment.model.ValidationJobState;
+import com.gdit.technicalassessment.model.ValidationJobStatus;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.RuleResultSink;
+import com.gdit.technicalassessment.validation.ValidationRule;
+import com.gdit.technicalassessment.validation.rules.StateCodeRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.context.i18n.LocaleContextHolder;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationJobServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final ApplicationValidationService validationService =
+            new ApplicationValidationService(List.of(new StateCodeRule()));
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolExecutor executor;
+    private Path inputDirectory;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        inputDirectory = Files.createDirectories(tempDir.resolve("inbox"));
+        Files.createFile(inputDirectory.resolve("applications.ndjson"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void startCreatesTheJobDirectoryAndStateFile() throws Exception {
+        ValidationJobService jobs = jobService(inputDirectory);
+
+        jobs.start();
+
+        assertTrue(Files.exists(tempDir.resolve("jobs").resolve(ValidationJobService.STATE_FILE)));
+    }
+
+    @Test
+    void referencedFilesMustStayInsideTheInputDirectory() throws Exception {
+        ValidationJobService jobs = jobService(inputDirectory);
+        jobs.start();
+        Files.createFile(tempDir.resolve("outside.ndjson"));
+
+        assertThrows(InvalidJobInputException.class, () -> jobs.submitFile("../outside.ndjson", null));
+        assertThrows(InvalidJobInputException.class, () -> jobs.submitFile("missing.ndjson", null));
+    }
+
+    @Test
+    void referencedFilesRequireAnInputDirectory() throws Exception {
+        ValidationJobService jobs = jobService(null);
+        jobs.start();
+
+        assertThrows(InvalidJobInputException.class, () -> jobs.submitFile("applications.ndjson", null));
+    }
+
+    @Test
+    void unknownRuleSetVersionIsRejectedBeforeQueueing() throws Exception {
+        ValidationJobService jobs = jobService(inputDirectory);
+        jobs.start();
+
+        assertThrows(UnknownRuleSetVersionException.class,
+                () -> jobs.submitFile("applications.ndjson", "1999-00"));
+    }
+
+    @Test
+    void queuedJobCanBeCancelledAndFullQueueIsRejected() throws Exception {
+        ValidationJobService jobs = jobService(inputDirectory);
+        jobs.start();
+        executor.execute(this::awaitRelease);
+
+        ValidationJobStatus queued = jobs.submitFile("applications.ndjson", null);
+        assertEquals(ValidationJobState.QUEUED, queued.state());
+        assertThrows(JobQueueFullException.class, () -> jobs.submitFile("applications.ndjson", null));
+
+        ValidationJobStatus cancelled = jobs.cancel(queued.id()).orElseThrow();
+
+        assertEquals(ValidationJobState.CANCELLED, cancelled.state());
+        assertTrue(jobs.results(queued.id()).isEmpty());
+    }
+
+    @Test
+    void completedJobReportsProgressAndResultsFile() throws Exception {
+        ValidationJobService jobs = jobService(inputDirectory);
+        jobs.start();
+
+        String id = jobs.submitFile("applications.ndjson", null).id();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        ValidationJobStatus status = jobs.status(id).orElseThrow();
+        assertEquals(ValidationJobState.COMPLETED, status.state());
+        assertEquals(0, status.processed());
+        assertNull(status.estimatedCompletion());
+        assertTrue(jobs.results(id).isPresent());
+    }
+
+    @Test
+    void jobFailingDuringShutdownResumesOnRestart() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean gated = new AtomicBoolean(true);
+        StateCodeRule gatedRule = new StateCodeRule() {
+            @Override
+            public void validate(ApplicationFacts facts, RuleResultSink sink) {
+                if (gated.getAndSet(false)) {
+                    started.countDown();
+                    awaitRelease();
+                    throw new IllegalStateException("Validation interrupted by shutdown");
+                }
+                super.validate(facts, sink);
+            }
+        };
+        ApplicationValidationService gatedService = new ApplicationValidationService(List.<ValidationRule>of(gatedRule),
+                Optional.empty(), ForkJoinPool.commonPool(), new BatchValidationProperties(0, 64, 4096, 10000, 1),
+                Clock.systemUTC(), Optional.empty(), Optional.empty(), Optional.empty(),
+                RuleSetProperties.defaults());
+        Files.writeString(inputDirectory.resolve("applications.ndjson"),
+                "{\"stateOfResidence\":\"VA\"}\n".repeat(3));
+        ValidationJobService jobs = jobService(gatedService, executor);
+        jobs.start();
+        String id = jobs.submitFile("applications.ndjson", null).id();
+        assertTrue(started.await(10, TimeUnit.SECONDS));
+
+        Thread stopper = new Thread(() -> {
+            try {
+                jobs.shutdown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        stopper.start();
+        while (stopper.getState() != Thread.State.TIMED_WAITING) {
+            Thread.onSpinWait();
+        }
+        release.countDown();
+        stopper.join(TimeUnit.SECONDS.toMillis(10));
+
+        ValidationJobStatus stopped = jobs.status(id).orElseThrow();
+        assertEquals(ValidationJobState.RUNNING, stopped.state());
+        assertNull(stopped.error());
+        assertTrue(stopped.processed() < 3);
+
+        ThreadPoolExecutor restartExecutor =
+                new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        ValidationJobService restarted = jobService(gatedService, restartExecutor);
+        restarted.start();
+        restartExecutor.shutdown();
+        assertTrue(restartExecutor.awaitTermination(10, TimeUnit.SECONDS));
+
+        ValidationJobStatus resumed = restarted.status(id).orElseThrow();
+        assertEquals(ValidationJobState.COMPLETED, resumed.state());
+        assertEquals(3, resumed.processed());
+        assertEquals(3, resumed.valid());
+        assertEquals(3, Files.readAllLines(restarted.results(id).orElseThrow()).size());
+    }
+
+    @Test
+    void failedJobReportsOnlyTheExceptionType() throws Exception {
+        StateCodeRule failingRule = new StateCodeRule() {
+            @Override
+            public void validate(ApplicationFacts facts, RuleResultSink sink) {
+                throw new IllegalStateException("Unexpected SSN 123-45-6789");
+            }
+        };
+        ApplicationValidationService failingService = new ApplicationValidationService(
+                List.<ValidationRule>of(failingRule));
+        Files.writeString(inputDirectory.resolve("applications.ndjson"), "{\"stateOfResidence\":\"VA\"}\n");
+        ValidationJobService jobs = jobService(failingService, executor);
+        jobs.start();
+
+        String id = jobs.submitFile("applications.ndjson", null).id();
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        ValidationJobStatus status = jobs.status(id).orElseThrow();
+        assertEquals(ValidationJobState.FAILED, status.state());
+        assertEquals("IllegalStateException", status.error());
+        assertFalse(Files.readString(tempDir.resolve("jobs").resolve(ValidationJobService.STATE_FILE))
+                .contains("6789"));
+    }
+
+    @Test
+    void resultsAreRenderedInTheLocaleOfTheSubmittingRequest() throws Exception {
+        Files.writeString(inputDirectory.resolve("applications.ndjson"), "{\"stateOfResidence\":\"ZZ\"}\n");
+        ValidationJobService jobs = jobService(inputDirectory);
+        jobs.start();
+
+        LocaleContextHolder.setLocale(Locale.forLanguageTag("es"));
+        String id;
+        try {
+            id = jobs.submitFile("applications.ndjson", null).id();
+        } finally {
+            LocaleContextHolder.resetLocaleContext();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        String result = Files.readString(jobs.results(id).orElseThrow());
+        assertTrue(result.contains("Valor proporcionado: ZZ"), result);
+    }
+
+    @Test
+    void unknownJobsAreNotFound() throws Exception {
+        ValidationJobService jobs = jobService(inputDirectory);
+        jobs.start();
+
+        assertTrue(jobs.status("unknown").isEmpty());
+        assertTrue(jobs.results("unknown").isEmpty());
+        assertTrue(jobs.cancel("unknown").isEmpty());
+    }
+
+    private ValidationJobService jobService(Path inputs) {
+        return new ValidationJobService(validationService, new ObjectMapper(), tempDir.resolve("jobs"), inputs,
+                Duration.ofDays(1), executor, Clock.systemUTC());
+    }
+
+    private ValidationJobService jobService(ApplicationValidationService service, ThreadPoolExecutor jobExecutor) {
+        return new ValidationJobService(service, new ObjectMapper(), tempDir.resolve("jobs"), inputDirectory,
+                Duration.ofDays(1), jobExecutor, Clock.systemUTC());
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
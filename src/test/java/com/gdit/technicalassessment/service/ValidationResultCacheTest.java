@@ -0,0 +1,175 @@
+package com.gdit.technicalassessment.service;
+
+import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.engine.RuleExecutionPlan;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ValidationResultCacheTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 1, 1);
+
+    private MutableClock clock;
+    private RuleExecutionPlan plan;
+    private ValidationDetails result;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2026-01-01T10:00:00Z"));
+        plan = RuleExecutionPlan.compile(List.of());
+        result = ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.passed("RULE_1")))
+                .failedRules(List.of())
+                .build();
+    }
+
+    @Test
+    void equalApplicationsHitTheSameEntry() {
+        var cache = new ValidationResultCache(10, Duration.ofHours(1), 1, clock);
+
+        cache.put(application("VA"), plan, TODAY, result);
+
+        assertSame(result, cache.get(application("VA"), plan, TODAY));
+        assertNull(cache.get(application("MD"), plan, TODAY));
+        assertEquals(new ValidationCacheStats(1, 1, 0, 1), cache.stats());
+    }
+
+    @Test
+    void entriesExpireAfterTtl() {
+        var cache = new ValidationResultCache(10, Duration.ofMinutes(5), 1, clock);
+        cache.put(application("VA"), plan, TODAY, result);
+
+        clock.advance(Duration.ofMinutes(6));
+
+        assertNull(cache.get(application("VA"), plan, TODAY));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void entriesDoNotOutliveTheValidationDate() {
+        var cache = new ValidationResultCache(10, Duration.ofDays(2), 1, clock);
+        cache.put(application("VA"), plan, TODAY, result);
+
+        assertNull(cache.get(application("VA"), plan, TODAY.plusDays(1)));
+        assertEquals(0, cache.stats().size());
+    }
+
+    @Test
+    void entriesAreScopedToTheRulePlan() {
+        var cache = new ValidationResultCache(10, Duration.ofHours(1), 1, clock);
+        cache.put(application("VA"), plan, TODAY, result);
+
+        assertNull(cache.get(application("VA"), RuleExecutionPlan.compile(List.of()), TODAY));
+    }
+
+    @Test
+    void ruleSetVersionsAreCachedSideBySide() {
+        var cache = new ValidationResultCache(10, Duration.ofHours(1), 1, clock);
+        var priorYearPlan = RuleExecutionPlan.compile(List.of(), RuleConfiguration.DEFAULTS, "2025-26");
+        var currentPlan = RuleExecutionPlan.compile(List.of(), RuleConfiguration.DEFAULTS, "2026-27");
+        var priorYearResult = ValidationDetails.builder().status(ValidationStatus.INVALID).build();
+        cache.put(application("VA"), priorYearPlan, TODAY, priorYearResult);
+        cache.put(application("VA"), currentPlan, TODAY, result);
+
+        for (int i = 0; i < 3; i++) {
+            assertSame(priorYearResult, cache.get(application("VA"), priorYearPlan, TODAY));
+            assertSame(result, cache.get(application("VA"), currentPlan, TODAY));
+        }
+        assertEquals(new ValidationCacheStats(6, 0, 0, 2), cache.stats());
+    }
+
+    @Test
+    void recompiledPlanOnlyDropsEntriesOfItsOwnVersion() {
+        var cache = new ValidationResultCache(10, Duration.ofHours(1), 1, clock);
+        var priorYearPlan = RuleExecutionPlan.compile(List.of(), RuleConfiguration.DEFAULTS, "2025-26");
+        var currentPlan = RuleExecutionPlan.compile(List.of(), RuleConfiguration.DEFAULTS, "2026-27");
+        cache.put(application("VA"), priorYearPlan, TODAY, result);
+        cache.put(application("VA"), currentPlan, TODAY, result);
+
+        var recompiledPlan = RuleExecutionPlan.compile(List.of(), RuleConfiguration.DEFAULTS, "2026-27");
+
+        assertNull(cache.get(application("VA"), recompiledPlan, TODAY));
+        assertSame(result, cache.get(application("VA"), priorYearPlan, TODAY));
+        assertEquals(1, cache.stats().size());
+    }
+
+    @Test
+    void repeatedlyHitEntriesSurviveOneOffSubmissions() {
+        var cache = new ValidationResultCache(5, Duration.ofHours(1), 1, clock);
+        cache.put(application("VA"), plan, TODAY, result);
+        assertNotNull(cache.get(application("VA"), plan, TODAY));
+
+        for (int i = 0; i < 20; i++) {
+            cache.put(application("S" + i), plan, TODAY, result);
+        }
+
+        assertSame(result, cache.get(application("VA"), plan, TODAY));
+        assertTrue(cache.stats().size() <= 5);
+        assertEquals(19, cache.stats().evictions());
+    }
+
+    @Test
+    void fingerprintIsContentBased() {
+        assertEquals(ValidationResultCache.fingerprint(application("VA")),
+                ValidationResultCache.fingerprint(application("VA")));
+        assertNotEquals(ValidationResultCache.fingerprint(application("VA")),
+                ValidationResultCache.fingerprint(application("MD")));
+        assertNotEquals(ValidationResultCache.fingerprint(Application.builder().build()),
+                ValidationResultCache.fingerprint(Application.builder().household(new Household(null, null)).build()));
+    }
+
+    private Application application(String state) {
+        return Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .firstName("Jane")
+                        .lastName("Smith")
+                        .ssn("123456789")
+                        .dateOfBirth(LocalDate.of(2003, 5, 15))
+                        .build())
+                .dependencyStatus(DependencyStatus.DEPENDENT)
+                .maritalStatus(MaritalStatus.SINGLE)
+                .income(new Income(1000, 50000))
+                .stateOfResidence(state)
+                .build();
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.util.SsnValidator;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationFactsTest {
+
+    private static final LocalDate AS_OF = LocalDate.of(2026, 1, 1);
+
+    @Test
+    void factsAreDerivedFromPopulatedApplication() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .ssn("123-45 6789")
+                        .dateOfBirth(LocalDate.of(2000, 6, 15))
+                        .build())
+                .spouseInfo(new SpouseInfo("Jane", "Doe", "876543219"))
+                .stateOfResidence(" va ")
+                .build();
+
+        var facts = ApplicationFacts.of(application, AS_OF);
+
+        assertSame(application, facts.application());
+        assertEquals(AS_OF, facts.asOfDate());
+        assertTrue(facts.hasStudentSsn());
+        assertTrue(facts.studentSsnValid());
+        assertEquals(123456789L, facts.studentSsn());
+        assertTrue(facts.hasDateOfBirth());
+        assertFalse(facts.dateOfBirthInFuture());
+        assertEquals(25, facts.studentAge());
+        assertTrue(facts.hasSpouseSsn());
+        assertTrue(facts.spouseSsnValid());
+        assertEquals(876543219L, facts.spouseSsn());
+        assertTrue(facts.hasStateOfResidence());
+    }
+
+    @Test
+    void factsForEmptyApplicationAreAbsent() {
+        var facts = ApplicationFacts.of(Application.builder().build(), AS_OF);
+
+        assertFalse(facts.hasStudentSsn());
+        assertFalse(facts.studentSsnValid());
+        assertEquals(SsnValidator.MALFORMED_SSN, facts.studentSsn());
+        assertFalse(facts.hasDateOfBirth());
+        assertEquals(0, facts.studentAge());
+        assertFalse(facts.hasSpouseSsn());
+        assertFalse(facts.hasStateOfResidence());
+    }
+
+    @Test
+    void invalidValuesAreFlaggedWithoutCleaning() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .ssn("12345")
+                        .dateOfBirth(LocalDate.of(2030, 1, 1))
+                        .build())
+                .spouseInfo(new SpouseInfo("Jane", "Doe", ""))
+                .stateOfResidence("XX")
+                .build();
+
+        var facts = ApplicationFacts.of(application, AS_OF);
+
+        assertTrue(facts.hasStudentSsn());
+        assertFalse(facts.studentSsnValid());
+        assertEquals(SsnValidator.MALFORMED_SSN, facts.studentSsn());
+        assertTrue(facts.dateOfBirthInFuture());
+        assertEquals(0, facts.studentAge());
+        assertFalse(facts.hasSpouseSsn());
+        assertTrue(facts.hasStateOfResidence());
+    }
+}
@@ -0,0 +1,46 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.*;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ApplicationProfileTest {
+
+    @Test
+    void everyKeyRoundTripsThroughProfile() {
+        Set<ApplicationProfile> profiles = new HashSet<>();
+        for (int key = 0; key < ApplicationProfile.KEY_COUNT; key++) {
+            ApplicationProfile profile = ApplicationProfile.fromKey(key);
+            assertEquals(key, profile.key());
+            profiles.add(profile);
+        }
+
+        assertEquals(ApplicationProfile.KEY_COUNT, profiles.size());
+    }
+
+    @Test
+    void keyOfApplicationMatchesProfile() {
+        var application = Application.builder()
+                .dependencyStatus(DependencyStatus.INDEPENDENT)
+                .maritalStatus(MaritalStatus.MARRIED)
+                .spouseInfo(new SpouseInfo("Jane", "Doe", "123456789"))
+                .build();
+
+        var profile = ApplicationProfile.fromKey(ApplicationProfile.keyOf(application));
+
+        assertEquals(new ApplicationProfile(DependencyStatus.INDEPENDENT, MaritalStatus.MARRIED, true), profile);
+    }
+
+    @Test
+    void keyOfApplicationWithMissingStatusesMatchesProfile() {
+        var application = Application.builder().build();
+
+        var profile = ApplicationProfile.fromKey(ApplicationProfile.keyOf(application));
+
+        assertEquals(new ApplicationProfile(null, null, false), profile);
+    }
+}
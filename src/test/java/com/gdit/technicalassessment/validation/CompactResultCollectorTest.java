@@ -0,0 +1,63 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactResultCollectorTest {
+
+    @Test
+    void passingRulesLeaveTheResultValid() {
+        var collector = new CompactResultCollector(7);
+
+        collector.begin(1);
+        collector.pass("RULE_1");
+
+        assertFalse(collector.hasFailures());
+        assertSame(CompactValidationDetails.VALID, collector.toDetails());
+    }
+
+    @Test
+    void failuresSetTheRuleBitAndKeepMessageCodesSorted() {
+        var collector = new CompactResultCollector(7);
+
+        collector.begin(5);
+        collector.fail("HOUSEHOLD_COLLEGE_COUNT", RuleMessage.HOUSEHOLD_COLLEGE_MISSING);
+        collector.fail("HOUSEHOLD_COLLEGE_COUNT", RuleMessage.HOUSEHOLD_SIZE_MISSING);
+        collector.begin(2);
+        collector.fail("SSN_FORMAT", RuleMessage.SSN_MISSING);
+        collector.begin(7);
+        collector.fail("DECLARATIVE", "literal messages have no code");
+
+        CompactValidationDetails details = collector.toDetails();
+
+        assertEquals(ValidationStatus.INVALID, details.status());
+        assertArrayEquals(new int[]{2, 5, 7}, details.failedRuleIds());
+        assertArrayEquals(new int[]{201, 502, 503}, details.messageCodes());
+    }
+
+    @Test
+    void ruleIdsBeyondOneWordWidenTheBitset() {
+        var collector = new CompactResultCollector(130);
+
+        collector.begin(130);
+        collector.addAll(ValidationDetails.builder()
+                .failedRules(List.of(RuleResult.failed("RULE", RuleMessage.STATE_MISSING)))
+                .build());
+
+        CompactValidationDetails details = collector.toDetails();
+
+        assertEquals(3, details.failedRules().length);
+        assertTrue(details.isFailed(130));
+        assertFalse(details.isFailed(2));
+        assertFalse(details.isFailed(500));
+        assertArrayEquals(new int[]{601}, details.messageCodes());
+    }
+}
@@ -0,0 +1,91 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.reference.ReferenceCodeSet;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleConfigurationTest {
+
+    @Test
+    void activationAndParametersAreParsedPerRule() {
+        Properties properties = new Properties();
+        properties.setProperty("STATE_CODE.active", "false");
+        properties.setProperty("STUDENT_AGE.active", " TRUE ");
+        properties.setProperty("STUDENT_AGE.minimum-age", "16");
+
+        var configuration = RuleConfiguration.from(properties);
+
+        assertFalse(configuration.isActive("STATE_CODE", true));
+        assertTrue(configuration.isActive("STUDENT_AGE", false));
+        assertTrue(configuration.isActive("SSN_FORMAT", true));
+        assertEquals(new RuleParameters(Map.of("minimum-age", "16")), configuration.parametersFor("STUDENT_AGE"));
+        assertTrue(configuration.parametersFor("STATE_CODE").isEmpty());
+    }
+
+    @Test
+    void overridesAreLayeredPerRuleAndParameter() {
+        var primary = new RuleConfiguration(Map.of("STATE_CODE", false, "SSN_FORMAT", false),
+                Map.of("STUDENT_AGE", new RuleParameters(Map.of("minimum-age", "16", "maximum-age", "90"))));
+        var candidate = new RuleConfiguration(Map.of("SSN_FORMAT", true),
+                Map.of("STUDENT_AGE", new RuleParameters(Map.of("minimum-age", "18"))));
+
+        var layered = primary.overriddenBy(candidate);
+
+        assertFalse(layered.isActive("STATE_CODE", true));
+        assertTrue(layered.isActive("SSN_FORMAT", false));
+        assertEquals(new RuleParameters(Map.of("minimum-age", "18", "maximum-age", "90")),
+                layered.parametersFor("STUDENT_AGE"));
+        assertEquals(primary, primary.overriddenBy(RuleConfiguration.DEFAULTS));
+    }
+
+    @Test
+    void invalidActiveValueIsRejected() {
+        Properties properties = new Properties();
+        properties.setProperty("STATE_CODE.active", "maybe");
+
+        assertThrows(IllegalArgumentException.class, () -> RuleConfiguration.from(properties));
+    }
+
+    @Test
+    void keyWithoutSettingIsRejected() {
+        Properties properties = new Properties();
+        properties.setProperty("STATE_CODE", "false");
+
+        assertThrows(IllegalArgumentException.class, () -> RuleConfiguration.from(properties));
+    }
+
+    @Test
+    void intParameterFallsBackToDefaultAndRejectsInvalidValues() {
+        var parameters = new RuleParameters(Map.of("minimum-age", "abc"));
+
+        assertEquals(14, RuleParameters.NONE.intValue("minimum-age", 14));
+        assertThrows(IllegalArgumentException.class, () -> parameters.intValue("minimum-age", 14));
+    }
+
+    @Test
+    void boundedIntParameterRejectsValuesOutOfRange() {
+        var parameters = new RuleParameters(Map.of("minimum-age", "-1", "maximum-age", "121"));
+
+        assertEquals(14, RuleParameters.NONE.intValue("minimum-age", 14, 0, 120));
+        assertThrows(IllegalArgumentException.class, () -> parameters.intValue("minimum-age", 14, 0, 120));
+        assertThrows(IllegalArgumentException.class, () -> parameters.intValue("maximum-age", 14, 0, 120));
+    }
+
+    @Test
+    void enumParameterIsParsedAsCommaSeparatedList() {
+        var parameters = new RuleParameters(Map.of("code-sets", "state, territory", "bad", "STATE,NOWHERE"));
+
+        assertEquals(EnumSet.of(ReferenceCodeSet.STATE, ReferenceCodeSet.TERRITORY),
+                parameters.enumValues("code-sets", ReferenceCodeSet.class, Set.of()));
+        assertEquals(Set.of(ReferenceCodeSet.COUNTRY),
+                RuleParameters.NONE.enumValues("code-sets", ReferenceCodeSet.class, Set.of(ReferenceCodeSet.COUNTRY)));
+        assertThrows(IllegalArgumentException.class,
+                () -> parameters.enumValues("bad", ReferenceCodeSet.class, Set.of()));
+    }
+}
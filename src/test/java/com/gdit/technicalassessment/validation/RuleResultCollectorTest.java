@@ -0,0 +1,81 @@
+package com.gdit.technicalassessment.validation;
+
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RuleResultCollectorTest {
+
+    @Test
+    void passingResultsAreCanonicalPerRuleName() {
+        var first = new RuleResultCollector(1);
+        var second = new RuleResultCollector(1);
+
+        first.pass("RULE_1");
+        second.pass("RULE_1");
+
+        assertSame(first.passedRules().get(0), second.passedRules().get(0));
+        assertEquals(RuleResult.builder().ruleName("RULE_1").build(), first.passedRules().get(0));
+    }
+
+    @Test
+    void failuresAreCollectedInOrder() {
+        var collector = new RuleResultCollector(2);
+
+        collector.pass("RULE_1");
+        collector.fail("RULE_2", "first");
+        collector.fail("RULE_2", "second");
+
+        assertTrue(collector.hasFailures());
+        assertEquals(2, collector.failureCount());
+        assertEquals(List.of(new RuleResult("RULE_2", "first"), new RuleResult("RULE_2", "second")),
+                collector.failedRules());
+    }
+
+    @Test
+    void addAllCopiesLegacyRuleDetails() {
+        var collector = new RuleResultCollector(2);
+
+        collector.addAll(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.builder().ruleName("RULE_1").build()))
+                .build());
+        collector.addAll(ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder().ruleName("RULE_2").message("bad").build()))
+                .build());
+
+        assertEquals(1, collector.passedRules().size());
+        assertEquals(1, collector.failureCount());
+    }
+
+    @Test
+    void failuresOnlyCollectorDropsPassingResults() {
+        var collector = RuleResultCollector.failuresOnly();
+
+        collector.pass("RULE_1");
+        collector.fail("RULE_2", "bad");
+
+        assertNull(collector.passedRules());
+        assertEquals(List.of(new RuleResult("RULE_2", "bad")), collector.failedRules());
+    }
+
+    @Test
+    void statusOnlyCollectorCountsFailuresWithoutKeepingThem() {
+        var collector = RuleResultCollector.statusOnly();
+
+        collector.pass("RULE_1");
+        collector.fail("RULE_2", "bad");
+        collector.addAll(null, List.of(new RuleResult("RULE_3", "worse")));
+
+        assertNull(collector.passedRules());
+        assertNull(collector.failedRules());
+        assertEquals(2, collector.failureCount());
+        assertTrue(collector.hasFailures());
+    }
+}
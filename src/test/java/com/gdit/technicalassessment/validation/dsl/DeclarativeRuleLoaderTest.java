@@ -0,0 +1,92 @@
+package com.gdit.technicalassessment.validation.dsl;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeclarativeRuleLoaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void rulesAreLoadedFromDefinitionsFile() throws IOException {
+        Path file = directory.resolve("rules.properties");
+        Files.writeString(file, """
+                HOUSEHOLD_LIMIT.assert=household.numberInHousehold <= 99
+                HOUSEHOLD_LIMIT.message=Number in household cannot exceed 99
+                HOUSEHOLD_LIMIT.id=101
+                SPOUSE_NAME.when=maritalStatus == 'married'
+                SPOUSE_NAME.assert=spouseInfo.firstName is not blank
+                SPOUSE_NAME.message=Spouse first name is missing
+                SPOUSE_NAME.active=false
+                SPOUSE_NAME.id=102
+                """);
+
+        List<DeclarativeRule> rules = DeclarativeRuleLoader.load(file);
+
+        assertEquals(List.of("HOUSEHOLD_LIMIT", "SPOUSE_NAME"),
+                rules.stream().map(DeclarativeRule::getRuleName).toList());
+        assertTrue(rules.get(0).isActive());
+        assertFalse(rules.get(1).isActive());
+        assertEquals(101, rules.get(0).getRuleId());
+    }
+
+    @Test
+    void incompleteOrUnknownSettingsAreRejected() {
+        Properties missingMessage = new Properties();
+        missingMessage.setProperty("RULE.assert", "income is null");
+        Properties unknownSetting = new Properties();
+        unknownSetting.setProperty("RULE.assert", "income is null");
+        unknownSetting.setProperty("RULE.message", "m");
+        unknownSetting.setProperty("RULE.severity", "warn");
+        Properties invalidActive = new Properties();
+        invalidActive.setProperty("RULE.assert", "income is null");
+        invalidActive.setProperty("RULE.message", "m");
+        invalidActive.setProperty("RULE.active", "yes");
+
+        assertThrows(IllegalArgumentException.class, () -> DeclarativeRuleLoader.load(missingMessage));
+        assertThrows(IllegalArgumentException.class, () -> DeclarativeRuleLoader.load(unknownSetting));
+        assertThrows(IllegalArgumentException.class, () -> DeclarativeRuleLoader.load(invalidActive));
+    }
+
+    @Test
+    void compileErrorsNameTheRule() {
+        Properties properties = new Properties();
+        properties.setProperty("BROKEN.assert", "household.size > 1");
+        properties.setProperty("BROKEN.message", "m");
+        properties.setProperty("BROKEN.id", "100");
+
+        var error = assertThrows(IllegalArgumentException.class, () -> DeclarativeRuleLoader.load(properties));
+        assertTrue(error.getMessage().startsWith("Invalid declarative rule BROKEN"));
+    }
+
+    @Test
+    void ruleIdsAreRequiredPositiveIntegers() {
+        Properties properties = new Properties();
+        properties.setProperty("WITH_ID.assert", "income is not null");
+        properties.setProperty("WITH_ID.message", "m");
+        properties.setProperty("WITH_ID.id", "100");
+        Properties missingId = new Properties();
+        missingId.setProperty("RULE.assert", "income is null");
+        missingId.setProperty("RULE.message", "m");
+        Properties invalidId = new Properties();
+        invalidId.setProperty("RULE.assert", "income is null");
+        invalidId.setProperty("RULE.message", "m");
+        invalidId.setProperty("RULE.id", "0");
+
+        List<DeclarativeRule> rules = DeclarativeRuleLoader.load(properties);
+
+        assertEquals(100, rules.get(0).getRuleId());
+        var error = assertThrows(IllegalArgumentException.class, () -> DeclarativeRuleLoader.load(missingId));
+        assertEquals("Declarative rule RULE is missing RULE.id", error.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> DeclarativeRuleLoader.load(invalidId));
+    }
+}
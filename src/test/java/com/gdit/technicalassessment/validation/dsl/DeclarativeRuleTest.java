@@ -0,0 +1,115 @@
+package com.gdit.technicalassessment.validation.dsl;
+
+import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DeclarativeRuleTest {
+
+    @Test
+    void assertionFailureReportsMessageWithPathValues() {
+        var rule = DeclarativeRule.compile("COLLEGE_COUNT", true, null,
+                "household.numberInCollege <= household.numberInHousehold",
+                "Number in college ({household.numberInCollege}) exceeds household ({household.numberInHousehold})");
+
+        var invalid = Application.builder().household(new Household(2, 3)).build();
+        var valid = Application.builder().household(new Household(4, 1)).build();
+
+        var expected = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(RuleResult.builder()
+                        .ruleName("COLLEGE_COUNT")
+                        .message("Number in college (3) exceeds household (2)")
+                        .build()))
+                .build();
+
+        assertEquals(expected, rule.validate(invalid));
+        assertEquals(ValidationStatus.VALID, rule.validate(valid).status());
+        assertEquals(Set.of(ApplicationField.HOUSEHOLD), rule.getReadFields());
+        assertEquals("COLLEGE_COUNT", rule.getRuleName());
+        assertTrue(rule.isActive());
+    }
+
+    @Test
+    void failureKeepsPathValuesAndRendersTheMessageWhenRead() {
+        var rule = DeclarativeRule.compile("COLLEGE_COUNT", true, null,
+                "household.numberInCollege <= household.numberInHousehold",
+                "Number in college ({household.numberInCollege}) exceeds household ({household.numberInHousehold})");
+
+        var failure = rule.validate(Application.builder().household(new Household(2, 3)).build())
+                .failedRules().get(0);
+
+        assertNotNull(failure.template());
+        assertArrayEquals(new Object[]{3, 2}, failure.arguments());
+        assertEquals("Number in college (3) exceeds household (2)", failure.message());
+    }
+
+    @Test
+    void whenConditionLimitsTheRuleToMatchingApplications() {
+        var rule = DeclarativeRule.compile("SPOUSE_LAST_NAME", true, "maritalStatus == 'married'",
+                "spouseInfo.lastName is not blank", "Spouse last name is missing");
+
+        var marriedWithoutSpouse = Application.builder().maritalStatus(MaritalStatus.MARRIED).build();
+        var single = Application.builder().maritalStatus(MaritalStatus.SINGLE).build();
+
+        assertEquals(ValidationStatus.INVALID, rule.validate(marriedWithoutSpouse).status());
+        assertEquals(ValidationStatus.VALID, rule.validate(single).status());
+        assertEquals(Set.of(ApplicationField.MARITAL_STATUS, ApplicationField.SPOUSE_INFO), rule.getReadFields());
+    }
+
+    @Test
+    void pathsThroughMissingSectionsEvaluateToNull() {
+        var rule = DeclarativeRule.compile("INCOME_PRESENT", true, null,
+                "income.studentIncome is not null or (income is null and not (dependencyStatus == 'independent'))",
+                "Student income is missing; provided {income.studentIncome}");
+
+        assertEquals(ValidationStatus.VALID, rule.validate(Application.builder().build()).status());
+        var details = rule.validate(Application.builder().dependencyStatus(DependencyStatus.INDEPENDENT).build());
+        assertEquals("Student income is missing; provided null", details.failedRules().get(0).message());
+    }
+
+    @Test
+    void datesNumbersAndTextCompareByValue() {
+        var rule = DeclarativeRule.compile("PLAUSIBLE", true, null,
+                "studentInfo.dateOfBirth >= '1900-01-01' and income.studentIncome < 10000000 "
+                        + "and stateOfResidence != 'XX'",
+                "Implausible application");
+
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder().dateOfBirth(LocalDate.of(2001, 5, 1)).build())
+                .income(new Income(5000, null))
+                .stateOfResidence("VA")
+                .build();
+
+        assertEquals(ValidationStatus.VALID, rule.validate(application).status());
+        assertEquals(ValidationStatus.INVALID, rule.validate(Application.builder().build()).status());
+    }
+
+    @Test
+    void invalidExpressionsAreRejectedAtCompileTime() {
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "household.size > 1", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "salary > 1", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "household.numberInCollege > 'many'", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "maritalStatus == 'engaged'", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "maritalStatus > 'married'", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "(income is null", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "income is null and", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "income = null", "m"));
+        assertThrows(IllegalArgumentException.class,
+                () -> DeclarativeRule.compile("R", true, null, "income is null", "Bad {income.total}"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.gdit.technicalassessment.validation.engine;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveRuleOrderTest {
+
+    @Test
+    void initialSequenceFollowsPlanOrder() {
+        var order = new AdaptiveRuleOrder(3);
+
+        assertArrayEquals(new Integer[]{0, 1, 2}, boxed(order.currentSequence()));
+    }
+
+    @Test
+    void frequentlyFailingRulesMoveToFront() {
+        var order = new AdaptiveRuleOrder(3, 10);
+
+        for (int i = 0; i < 10; i++) {
+            order.record(0, 100, false);
+            order.record(1, 100, false);
+            order.record(2, 100, true);
+        }
+
+        assertEquals(2, order.currentSequence()[0]);
+    }
+
+    @Test
+    void cheaperRulesMoveAheadOfExpensiveRulesWithSameFailureRate() {
+        var order = new AdaptiveRuleOrder(2, 10);
+
+        for (int i = 0; i < 10; i++) {
+            order.record(0, 10_000, true);
+            order.record(1, 100, true);
+        }
+
+        assertArrayEquals(new Integer[]{1, 0}, boxed(order.currentSequence()));
+    }
+
+    @Test
+    void sequenceIsNotReorderedBeforeInterval() {
+        var order = new AdaptiveRuleOrder(2, 100);
+
+        order.record(1, 100, true);
+
+        assertArrayEquals(new Integer[]{0, 1}, boxed(order.currentSequence()));
+    }
+
+    @Test
+    void tiesKeepPlanOrder() {
+        var order = new AdaptiveRuleOrder(3);
+
+        order.reorder();
+
+        assertArrayEquals(new Integer[]{0, 1, 2}, boxed(order.currentSequence()));
+    }
+
+    @Test
+    void inheritedStatisticsAreMappedToNewIndexesAndReordered() {
+        var previous = new AdaptiveRuleOrder(2, 1000);
+        for (int i = 0; i < 10; i++) {
+            previous.record(0, 100, false);
+            previous.record(1, 100, true);
+        }
+        var order = new AdaptiveRuleOrder(3);
+
+        order.inherit(previous, new int[]{-1, 0, 1});
+
+        assertEquals(previous.failureRate(1), order.failureRate(2), 0.0001);
+        assertEquals(0.5, order.failureRate(0), 0.0001);
+        assertArrayEquals(new Integer[]{0, 2, 1}, boxed(order.currentSequence()));
+    }
+
+    @Test
+    void failureRateIsSmoothedForUnseenRules() {
+        var order = new AdaptiveRuleOrder(1);
+
+        assertEquals(0.5, order.failureRate(0), 0.0001);
+    }
+
+    private Integer[] boxed(int[] values) {
+        Integer[] boxed = new Integer[values.length];
+        for (int i = 0; i < values.length; i++) {
+            boxed[i] = values[i];
+        }
+        return boxed;
+    }
+}
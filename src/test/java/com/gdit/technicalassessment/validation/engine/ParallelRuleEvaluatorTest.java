@@ -0,0 +1,154 @@
+package com.gdit.technicalassessment.validation.engine;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.validation.ApplicationProfile;
+import com.gdit.technicalassessment.validation.ValidationRule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ParallelRuleEvaluatorTest {
+
+    private ParallelRuleEvaluator evaluator;
+    private Application application;
+
+    @BeforeEach
+    void setUp() {
+        evaluator = new ParallelRuleEvaluator(Executors.newFixedThreadPool(4));
+        application = Application.builder().stateOfResidence("CA").build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        evaluator.shutdown();
+    }
+
+    @Test
+    void resultsAreReturnedInPlanOrderRegardlessOfCompletionOrder() {
+        List<ValidationRule> rules = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            rules.add(new SleepingRule("RULE_" + i, 50 - i * 10L));
+        }
+
+        ValidationDetails[] results = evaluate(RuleExecutionPlan.compile(rules));
+
+        assertEquals(5, results.length);
+        for (int i = 0; i < 5; i++) {
+            assertEquals("RULE_" + i, results[i].passedRules().get(0).ruleName());
+        }
+    }
+
+    @Test
+    void rulesRunConcurrently() {
+        CountDownLatch latch = new CountDownLatch(3);
+        List<ValidationRule> rules = List.of(
+                new LatchRule("RULE_1", latch), new LatchRule("RULE_2", latch), new LatchRule("RULE_3", latch));
+
+        ValidationDetails[] results = evaluate(RuleExecutionPlan.compile(rules));
+
+        assertEquals(3, results.length);
+        assertEquals(0, latch.getCount());
+    }
+
+    @Test
+    void ruleExceptionsArePropagated() {
+        ValidationRule failing = new SleepingRule("BROKEN", 0) {
+            @Override
+            public ValidationDetails validate(Application application) {
+                throw new IllegalStateException("lookup unavailable");
+            }
+        };
+        var plan = RuleExecutionPlan.compile(List.of(failing, new SleepingRule("RULE_2", 0)));
+
+        var exception = assertThrows(IllegalStateException.class, () -> evaluate(plan));
+        assertEquals("lookup unavailable", exception.getMessage());
+    }
+
+    @Test
+    void emptyPlanReturnsNoResults() {
+        var results = evaluate(RuleExecutionPlan.compile(Collections.emptyList()));
+
+        assertEquals(0, results.length);
+    }
+
+    @Test
+    void onlySelectedRulesAreEvaluated() {
+        var plan = RuleExecutionPlan.compile(List.of(
+                new SleepingRule("RULE_0", 0), new SleepingRule("RULE_1", 0), new SleepingRule("RULE_2", 0)));
+
+        ValidationDetails[] results = evaluator.evaluate(plan, new int[]{2, 0}, application, null);
+
+        assertEquals(2, results.length);
+        assertEquals("RULE_2", results[0].passedRules().get(0).ruleName());
+        assertEquals("RULE_0", results[1].passedRules().get(0).ruleName());
+    }
+
+    private ValidationDetails[] evaluate(RuleExecutionPlan plan) {
+        return evaluator.evaluate(plan, plan.applicableRules(ApplicationProfile.keyOf(application)), application, null);
+    }
+
+    private static class SleepingRule implements ValidationRule {
+        private final String name;
+        private final long sleepMillis;
+
+        SleepingRule(String name, long sleepMillis) {
+            this.name = name;
+            this.sleepMillis = sleepMillis;
+        }
+
+        @Override
+        public String getRuleName() {
+            return name;
+        }
+
+        @Override
+        public boolean isActive() {
+            return true;
+        }
+
+        @Override
+        public ValidationDetails validate(Application application) {
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return ValidationDetails.builder()
+                    .status(ValidationStatus.VALID)
+                    .passedRules(List.of(RuleResult.builder().ruleName(name).build()))
+                    .build();
+        }
+    }
+
+    private static class LatchRule extends SleepingRule {
+        private final CountDownLatch latch;
+
+        LatchRule(String name, CountDownLatch latch) {
+            super(name, 0);
+            this.latch = latch;
+        }
+
+        @Override
+        public ValidationDetails validate(Application application) {
+            latch.countDown();
+            try {
+                assertTrue(latch.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.validate(application);
+        }
+    }
+}
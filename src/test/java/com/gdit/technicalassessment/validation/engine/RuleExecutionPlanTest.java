@@ -0,0 +1,332 @@
+package com.gdit.technicalassessment.validation.engine;
+
+import com.gdit.technicalassessment.model.Application;
+import com.gdit.technicalassessment.model.CompactValidationDetails;
+import com.gdit.technicalassessment.model.DependencyStatus;
+import com.gdit.technicalassessment.model.RuleMessage;
+import com.gdit.technicalassessment.model.RuleResult;
+import com.gdit.technicalassessment.model.ValidationDetails;
+import com.gdit.technicalassessment.model.ValidationStatus;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.ApplicationProfile;
+import com.gdit.technicalassessment.validation.CompactResultCollector;
+import com.gdit.technicalassessment.validation.FactsValidationRule;
+import com.gdit.technicalassessment.validation.ParameterizedRule;
+import com.gdit.technicalassessment.validation.RuleApplicability;
+import com.gdit.technicalassessment.validation.RuleConfiguration;
+import com.gdit.technicalassessment.validation.RuleParameters;
+import com.gdit.technicalassessment.validation.RuleResultCollector;
+import com.gdit.technicalassessment.validation.RuleResultSink;
+import com.gdit.technicalassessment.validation.ValidationRule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RuleExecutionPlanTest {
+
+    private ValidationRule activeRule1;
+    private ValidationRule activeRule2;
+    private ValidationRule inactiveRule;
+
+    @BeforeEach
+    void setUp() {
+        activeRule1 = mock(ValidationRule.class);
+        activeRule2 = mock(ValidationRule.class);
+        inactiveRule = mock(ValidationRule.class);
+
+        when(activeRule1.getRuleName()).thenReturn("RULE_1");
+        when(activeRule2.getRuleName()).thenReturn("RULE_2");
+        when(inactiveRule.getRuleName()).thenReturn("INACTIVE");
+
+        when(activeRule1.isActive()).thenReturn(true);
+        when(activeRule2.isActive()).thenReturn(true);
+        when(inactiveRule.isActive()).thenReturn(false);
+    }
+
+    @Test
+    void compileKeepsOnlyActiveRulesInOrder() {
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, inactiveRule, activeRule2));
+
+        assertEquals(2, plan.size());
+        assertSame(activeRule1, plan.ruleAt(0));
+        assertSame(activeRule2, plan.ruleAt(1));
+        assertEquals(List.of("RULE_1", "RULE_2"), plan.getRuleNames());
+    }
+
+    @Test
+    void compilePrecomputesRuleNames() {
+        var plan = RuleExecutionPlan.compile(List.of(activeRule1));
+
+        assertEquals("RULE_1", plan.ruleNameAt(0));
+        assertEquals("RULE_1", plan.ruleNameAt(0));
+        verify(activeRule1, times(1)).getRuleName();
+    }
+
+    @Test
+    void compileHandlesEmptyRuleCollection() {
+        var plan = RuleExecutionPlan.compile(Collections.emptyList());
+
+        assertEquals(0, plan.size());
+        assertTrue(plan.getRuleNames().isEmpty());
+    }
+
+    @Test
+    void planIsNotAffectedByLaterActivationChanges() {
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+
+        when(activeRule2.isActive()).thenReturn(false);
+
+        assertEquals(2, plan.size());
+    }
+
+    @Test
+    void guardedRulesAreExcludedForProfilesTheyDoNotApplyTo() {
+        when(activeRule2.getApplicability()).thenReturn(
+                profile -> profile.dependencyStatus() != DependencyStatus.INDEPENDENT);
+
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+        int independent = new ApplicationProfile(DependencyStatus.INDEPENDENT, null, false).key();
+        int dependent = new ApplicationProfile(DependencyStatus.DEPENDENT, null, false).key();
+
+        assertArrayEquals(new int[]{0}, plan.applicableRules(independent));
+        assertFalse(plan.isApplicable(independent, 1));
+        assertEquals(List.of(RuleResult.builder().ruleName("RULE_2").build()), plan.notApplicableResults(independent));
+
+        assertArrayEquals(new int[]{0, 1}, plan.applicableRules(dependent));
+        assertTrue(plan.isApplicable(dependent, 1));
+        assertTrue(plan.notApplicableResults(dependent).isEmpty());
+    }
+
+    @Test
+    void rulesWithoutGuardApplyToEveryProfile() {
+        when(activeRule1.getApplicability()).thenReturn(RuleApplicability.ALWAYS);
+
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+
+        for (int key = 0; key < ApplicationProfile.KEY_COUNT; key++) {
+            assertArrayEquals(new int[]{0, 1}, plan.applicableRules(key));
+        }
+    }
+
+    @Test
+    void rulesAreIndexedByTheFieldsTheyRead() {
+        when(activeRule1.getReadFields()).thenReturn(EnumSet.of(ApplicationField.INCOME));
+        when(activeRule2.getReadFields()).thenReturn(
+                EnumSet.of(ApplicationField.INCOME, ApplicationField.DEPENDENCY_STATUS));
+
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+
+        assertArrayEquals(new int[]{0, 1}, plan.rulesReading(ApplicationField.INCOME));
+        assertArrayEquals(new int[]{1}, plan.rulesReading(ApplicationField.DEPENDENCY_STATUS));
+        assertArrayEquals(new int[]{}, plan.rulesReading(ApplicationField.HOUSEHOLD));
+    }
+
+    @Test
+    void rulesWithoutDeclaredFieldsAreIndexedUnderEveryField() {
+        when(activeRule1.getReadFields()).thenReturn(EnumSet.noneOf(ApplicationField.class));
+
+        var plan = RuleExecutionPlan.compile(List.of(activeRule1));
+
+        for (ApplicationField field : ApplicationField.values()) {
+            assertArrayEquals(new int[]{0}, plan.rulesReading(field));
+        }
+    }
+
+    @Test
+    void factsRulesReportIntoCollectorWithSharedFacts() {
+        var application = Application.builder().build();
+        var facts = ApplicationFacts.of(application, LocalDate.of(2026, 1, 1));
+        List<ApplicationFacts> seen = new ArrayList<>();
+        FactsValidationRule factsRule = new FactsValidationRule() {
+            @Override
+            public String getRuleName() {
+                return "FACTS";
+            }
+
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public void validate(ApplicationFacts ruleFacts, RuleResultSink sink) {
+                seen.add(ruleFacts);
+                sink.fail(getRuleName(), "failed");
+            }
+        };
+        when(activeRule1.validate(application)).thenReturn(ValidationDetails.builder()
+                .status(ValidationStatus.VALID)
+                .passedRules(List.of(RuleResult.passed("RULE_1")))
+                .build());
+
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, factsRule));
+        var collector = new RuleResultCollector(2);
+        plan.evaluate(0, application, facts, collector);
+        plan.evaluate(1, application, facts, collector);
+
+        assertTrue(plan.usesFacts());
+        assertEquals(List.of(facts), seen);
+        assertSame(RuleResult.passed("RULE_1"), collector.passedRules().get(0));
+        assertEquals(List.of(new RuleResult("FACTS", "failed")), collector.failedRules());
+    }
+
+    @Test
+    void planWithoutFactsRulesDoesNotUseFacts() {
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+
+        assertFalse(plan.usesFacts());
+    }
+
+    @Test
+    void configurationOverridesRuleActivation() {
+        Properties properties = new Properties();
+        properties.setProperty("RULE_1.active", "false");
+        properties.setProperty("INACTIVE.active", "true");
+
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, inactiveRule, activeRule2),
+                RuleConfiguration.from(properties));
+
+        assertEquals(List.of("INACTIVE", "RULE_2"), plan.getRuleNames());
+        assertSame(inactiveRule, plan.ruleAt(0));
+    }
+
+    @Test
+    void parameterizedRulesAreCompiledAsConfiguredCopies() {
+        ParameterizedRule parameterizedRule = mock(ParameterizedRule.class);
+        ValidationRule configuredCopy = mock(ValidationRule.class);
+        when(parameterizedRule.getRuleName()).thenReturn("PARAMETERIZED");
+        when(parameterizedRule.isActive()).thenReturn(true);
+        var parameters = new RuleParameters(Map.of("limit", "5"));
+        when(parameterizedRule.withParameters(parameters)).thenReturn(configuredCopy);
+
+        var plan = RuleExecutionPlan.compile(List.of(parameterizedRule),
+                new RuleConfiguration(Map.of(), Map.of("PARAMETERIZED", parameters)));
+
+        assertSame(configuredCopy, plan.ruleAt(0));
+        assertEquals("PARAMETERIZED", plan.ruleNameAt(0));
+    }
+
+    @Test
+    void versionedCompileKeepsRulesBelongingToThatVersion() {
+        when(activeRule1.getRuleSetVersions()).thenReturn(Set.of("2025-26"));
+        when(activeRule2.getRuleSetVersions()).thenReturn(Set.of("2026-27"));
+        ValidationRule everyVersionRule = mock(ValidationRule.class);
+        when(everyVersionRule.getRuleName()).thenReturn("EVERY_VERSION");
+        when(everyVersionRule.isActive()).thenReturn(true);
+        List<ValidationRule> rules = Arrays.asList(activeRule1, activeRule2, everyVersionRule);
+
+        var plan = RuleExecutionPlan.compile(rules, RuleConfiguration.DEFAULTS, "2025-26");
+
+        assertEquals("2025-26", plan.ruleSetVersion());
+        assertEquals(List.of("RULE_1", "EVERY_VERSION"), plan.getRuleNames());
+        assertEquals(List.of("RULE_2", "EVERY_VERSION"),
+                RuleExecutionPlan.compile(rules, RuleConfiguration.DEFAULTS, "2026-27").getRuleNames());
+        assertEquals(3, RuleExecutionPlan.compile(rules).size());
+    }
+
+    @Test
+    void rulesWithoutIdsAreNumberedAfterDeclaredIdsInNameOrder() {
+        when(activeRule2.getRuleId()).thenReturn(10);
+
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, inactiveRule, activeRule2));
+
+        assertEquals(Map.of("RULE_1", 12, "RULE_2", 10), plan.ruleIds());
+        assertEquals(12, plan.ruleIdAt(0));
+        assertEquals(12, plan.maxRuleId());
+    }
+
+    @Test
+    void recompiledPlanInheritsAdaptiveOrderByRuleId() {
+        when(activeRule1.getRuleId()).thenReturn(1);
+        when(activeRule2.getRuleId()).thenReturn(2);
+        var previous = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+        for (int i = 0; i < AdaptiveRuleOrder.REORDER_INTERVAL / 2; i++) {
+            previous.adaptiveOrder().record(0, 100, false);
+            previous.adaptiveOrder().record(1, 100, true);
+        }
+        assertEquals(1, previous.adaptiveOrder().currentSequence()[0]);
+
+        var recompiled = RuleExecutionPlan.compile(Arrays.asList(activeRule2, activeRule1));
+        recompiled.inheritAdaptiveOrder(previous);
+
+        assertEquals("RULE_2", recompiled.ruleNameAt(recompiled.adaptiveOrder().currentSequence()[0]));
+        assertEquals(previous.adaptiveOrder().failureRate(1), recompiled.adaptiveOrder().failureRate(0), 0.0001);
+    }
+
+    @Test
+    void rulesSharingAnIdAreRejected() {
+        when(activeRule1.getRuleId()).thenReturn(3);
+        when(activeRule2.getRuleId()).thenReturn(3);
+
+        assertThrows(IllegalStateException.class,
+                () -> RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2)));
+    }
+
+    @Test
+    void compactReencodesFailedRulesAndMessageCodes() {
+        when(activeRule1.getRuleId()).thenReturn(1);
+        when(activeRule2.getRuleId()).thenReturn(70);
+        var plan = RuleExecutionPlan.compile(Arrays.asList(activeRule1, activeRule2));
+        ValidationDetails details = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .passedRules(List.of(RuleResult.passed("RULE_1")))
+                .failedRules(List.of(RuleResult.failed("RULE_2", RuleMessage.STATE_INVALID, "ZZ"),
+                        new RuleResult("RULE_2", "literal")))
+                .build();
+
+        CompactValidationDetails compact = plan.compact(details);
+
+        assertEquals(ValidationStatus.INVALID, compact.status());
+        assertArrayEquals(new int[]{70}, compact.failedRuleIds());
+        assertEquals(2, compact.failedRules().length);
+        assertTrue(compact.isFailed(70));
+        assertFalse(compact.isFailed(1));
+        assertArrayEquals(new int[]{602}, compact.messageCodes());
+    }
+
+    @Test
+    void compactEvaluationRecordsFailuresUnderTheRuleId() {
+        FactsValidationRule factsRule = new FactsValidationRule() {
+            @Override
+            public String getRuleName() {
+                return "FACTS";
+            }
+
+            @Override
+            public int getRuleId() {
+                return 4;
+            }
+
+            @Override
+            public boolean isActive() {
+                return true;
+            }
+
+            @Override
+            public void validate(ApplicationFacts facts, RuleResultSink sink) {
+                sink.fail(getRuleName(), RuleMessage.INCOME_MISSING);
+            }
+        };
+        var plan = RuleExecutionPlan.compile(List.of(factsRule));
+        var application = Application.builder().build();
+        var collector = new CompactResultCollector(plan.maxRuleId());
+
+        plan.evaluate(0, application, ApplicationFacts.of(application, LocalDate.of(2026, 1, 1)), collector);
+
+        assertEquals(new CompactValidationDetails(ValidationStatus.INVALID, new long[]{1L << 4}, new int[]{401}),
+                collector.toDetails());
+    }
+}
@@ -1,12 +1,15 @@
 package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.ApplicationField;
+import com.gdit.technicalassessment.validation.ApplicationProfile;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.EnumSet;
 import java.util.List;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 class DependentParentIncomeRuleTest {
 
@@ -160,5 +163,19 @@ class DependentParentIncomeRuleTest {
         var actual = dependentParentIncomeRule.validate(application);
         assertEquals(expected, actual);
     }
-}
 
+    @Test
+    void ruleDoesNotApplyToIndependentStudents() {
+        var guard = dependentParentIncomeRule.getApplicability();
+
+        assertFalse(guard.appliesTo(new ApplicationProfile(DependencyStatus.INDEPENDENT, null, false)));
+        assertTrue(guard.appliesTo(new ApplicationProfile(DependencyStatus.DEPENDENT, null, false)));
+        assertTrue(guard.appliesTo(new ApplicationProfile(null, null, false)));
+    }
+
+    @Test
+    void ruleReadsDependencyStatusAndIncome() {
+        assertEquals(EnumSet.of(ApplicationField.DEPENDENCY_STATUS, ApplicationField.INCOME),
+                dependentParentIncomeRule.getReadFields());
+    }
+}
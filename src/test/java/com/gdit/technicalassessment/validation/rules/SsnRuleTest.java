@@ -61,6 +61,28 @@ class SsnRuleTest {
         }
 
 
+    @Test
+    void ssnNeverIssuedBySsaIsInvalid() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .ssn("666-12-3456")
+                        .build())
+                .build();
+
+        var expected = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(
+                        RuleResult.builder()
+                                .ruleName("SSN_FORMAT")
+                                .message("SSN is not a number issued by the SSA. Provided: 666-12-3456")
+                                .build()
+                ))
+                .build();
+
+        var actual = ssnRule.validate(application);
+        assertEquals(expected, actual);
+    }
+
     @Test
     void ssnIsMissing() {
         var application = Application.builder()
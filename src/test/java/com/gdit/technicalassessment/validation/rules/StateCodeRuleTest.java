@@ -1,10 +1,12 @@
 package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.RuleParameters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
@@ -250,5 +252,38 @@ class StateCodeRuleTest {
         var actual = stateCodeRule.validate(application);
         assertEquals(expected, actual);
     }
-}
 
+    @Test
+    void territoryCodeIsInvalidByDefault() {
+        var application = Application.builder()
+                .stateOfResidence("PR")
+                .build();
+
+        var expected = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(
+                        RuleResult.builder()
+                                .ruleName("STATE_CODE")
+                                .message("Invalid state code. Provided: PR")
+                                .build()
+                ))
+                .build();
+
+        var actual = stateCodeRule.validate(application);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void configuredCodeSetsAcceptDistrictTerritoryAndMilitaryCodes() {
+        var configuredRule = stateCodeRule.withParameters(
+                new RuleParameters(Map.of("code-sets", "STATE,DISTRICT,TERRITORY,MILITARY")));
+
+        for (String code : List.of("va", " DC ", "pr", "Gu", "AE")) {
+            var application = Application.builder()
+                    .stateOfResidence(code)
+                    .build();
+
+            assertEquals(ValidationStatus.VALID, configuredRule.validate(application).status(), code);
+        }
+    }
+}
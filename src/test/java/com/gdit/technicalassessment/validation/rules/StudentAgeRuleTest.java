@@ -1,6 +1,8 @@
 package com.gdit.technicalassessment.validation.rules;
 
 import com.gdit.technicalassessment.model.*;
+import com.gdit.technicalassessment.validation.ApplicationFacts;
+import com.gdit.technicalassessment.validation.RuleParameters;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -9,8 +11,10 @@ import java.time.Instant;
 import java.time.LocalDate;
 import java.time.ZoneId;
 import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 class StudentAgeRuleTest {
 
@@ -175,5 +179,110 @@ class StudentAgeRuleTest {
         var actual = studentAgeRule.validate(application);
         assertEquals(expected, actual);
     }
-}
 
+    @Test
+    void configuredMinimumAgeIsAppliedToCopy() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .dateOfBirth(LocalDate.of(2011, 1, 1))
+                        .build())
+                .build();
+
+        var configuredRule = studentAgeRule.withParameters(new RuleParameters(Map.of("minimum-age", "16")));
+
+        var expected = ValidationDetails.builder()
+                .status(ValidationStatus.INVALID)
+                .failedRules(List.of(
+                        RuleResult.builder()
+                                .ruleName("STUDENT_AGE")
+                                .message("Student must be at least 16 years old. Current age: 15")
+                                .build()
+                ))
+                .build();
+
+        assertEquals(expected, configuredRule.validate(application));
+        assertEquals(ValidationStatus.VALID, studentAgeRule.validate(application).status());
+    }
+
+    @Test
+    void negativeMinimumAgeIsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> studentAgeRule.withParameters(new RuleParameters(Map.of("minimum-age", "-1"))));
+    }
+
+    @Test
+    void cutoffFollowsTheAsOfDateOfEachApplication() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .dateOfBirth(LocalDate.of(2008, 2, 29))
+                        .build())
+                .build();
+
+        var dayBeforeBirthday = ApplicationFacts.of(application, LocalDate.of(2022, 2, 28));
+        var dayAfterBirthday = ApplicationFacts.of(application, LocalDate.of(2022, 3, 1));
+
+        assertEquals(ValidationStatus.INVALID, studentAgeRule.validate(dayBeforeBirthday).status());
+        assertEquals(ValidationStatus.VALID, studentAgeRule.validate(dayAfterBirthday).status());
+        assertEquals(ValidationStatus.INVALID, studentAgeRule.validate(dayBeforeBirthday).status());
+    }
+
+    @Test
+    void ageIsCalculatedOnTheDateInTheClocksZone() {
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .dateOfBirth(LocalDate.of(2012, 1, 2))
+                        .build())
+                .build();
+        Instant lateOnNewYearsDayUtc = Instant.parse("2026-01-01T12:00:00Z");
+
+        var utcRule = new StudentAgeRule(Clock.fixed(lateOnNewYearsDayUtc, ZONE_ID));
+        var kiritimatiRule = new StudentAgeRule(Clock.fixed(lateOnNewYearsDayUtc, ZoneId.of("Pacific/Kiritimati")));
+
+        assertEquals(ValidationStatus.INVALID, utcRule.validate(application).status());
+        assertEquals(ValidationStatus.VALID, kiritimatiRule.validate(application).status());
+    }
+
+    @Test
+    void todaysCutoffRollsOverWithTheClockAndIgnoresOtherAsOfDates() {
+        var clock = new MutableClock(LocalDate.of(2022, 2, 28).atStartOfDay(ZONE_ID).toInstant());
+        var rule = new StudentAgeRule(clock);
+        var application = Application.builder()
+                .studentInfo(StudentInfo.builder()
+                        .dateOfBirth(LocalDate.of(2008, 2, 29))
+                        .build())
+                .build();
+
+        assertEquals(ValidationStatus.INVALID, rule.validate(application).status());
+        assertEquals(ValidationStatus.VALID,
+                rule.validate(ApplicationFacts.of(application, LocalDate.of(2023, 1, 1))).status());
+        assertEquals(ValidationStatus.INVALID, rule.validate(application).status());
+
+        clock.instant = LocalDate.of(2022, 3, 1).atStartOfDay(ZONE_ID).toInstant();
+
+        assertEquals(ValidationStatus.VALID, rule.validate(application).status());
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant instant;
+
+        private MutableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZONE_ID;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
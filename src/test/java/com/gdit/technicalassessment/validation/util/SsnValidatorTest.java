@@ -76,6 +76,40 @@ class SsnValidatorTest {
         assertFalse(SsnValidator.isValidSsn("   "));
     }
 
+    @Test
+    void ssnIsInvalidWithUnissuedArea() {
+        assertFalse(SsnValidator.isValidSsn("000-12-3456"));
+        assertFalse(SsnValidator.isValidSsn("666-12-3456"));
+        assertFalse(SsnValidator.isValidSsn("900-12-3456"));
+        assertFalse(SsnValidator.isValidSsn("999-12-3456"));
+    }
+
+    @Test
+    void ssnIsInvalidWithZeroGroup() {
+        assertFalse(SsnValidator.isValidSsn("123-00-4567"));
+    }
+
+    @Test
+    void ssnIsInvalidWithZeroSerial() {
+        assertFalse(SsnValidator.isValidSsn("123-45-0000"));
+    }
+
+    @Test
+    void parseSsnReturnsDigitsAsNumber() {
+        assertEquals(123456789L, SsnValidator.parseSsn(" 123-45 6789 "));
+        assertEquals(1010001L, SsnValidator.parseSsn("001-01-0001"));
+        assertEquals(899999999L, SsnValidator.parseSsn("899999999"));
+    }
+
+    @Test
+    void parseSsnDistinguishesMalformedFromUnissued() {
+        assertEquals(SsnValidator.MALFORMED_SSN, SsnValidator.parseSsn(null));
+        assertEquals(SsnValidator.MALFORMED_SSN, SsnValidator.parseSsn("123-45-678"));
+        assertEquals(SsnValidator.MALFORMED_SSN, SsnValidator.parseSsn("123-45-67890"));
+        assertEquals(SsnValidator.MALFORMED_SSN, SsnValidator.parseSsn("123.45.6789"));
+        assertEquals(SsnValidator.UNISSUED_SSN, SsnValidator.parseSsn("666-45-6789"));
+    }
+
     @Test
     void cleanSsnRemovesDashes() {
         assertEquals("123456789", SsnValidator.cleanSsn("123-45-6789"));